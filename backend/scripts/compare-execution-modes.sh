@@ -0,0 +1,63 @@
+#!/usr/bin/env sh
+# Compara os modos de execução da API sob a mesma carga:
+#   1) threads de plataforma (pool do Tomcat)
+#   2) virtual threads + limite de conexões simultâneas ao banco
+#
+# Requisitos: JDK 21+, PostgreSQL acessível (ver SPRING_DATASOURCE_*), "hey"
+# (https://github.com/rakyll/hey) e o JAR gerado com "mvn package -DskipTests".
+#
+# Uso: ./scripts/compare-execution-modes.sh [requisições] [concorrência]
+
+set -eu
+
+REQUESTS="${1:-20000}"
+CONCURRENCY="${2:-500}"
+PORT="${SERVER_PORT:-8080}"
+BASE_URL="http://localhost:${PORT}"
+JAR="$(ls target/*-exec.jar | head -n 1)"
+
+wait_for_health() {
+  for _ in $(seq 1 60); do
+    if curl -fs "${BASE_URL}/actuator/health" > /dev/null 2>&1; then
+      return 0
+    fi
+    sleep 1
+  done
+  echo "Aplicação não ficou saudável em 60s" >&2
+  return 1
+}
+
+run_mode() {
+  mode="$1"
+  virtual="$2"
+
+  echo "=== ${mode} ==="
+  VIRTUAL_THREADS_ENABLED="${virtual}" SERVER_PORT="${PORT}" java -jar "${JAR}" > "target/${mode}.log" 2>&1 &
+  pid=$!
+  trap 'kill ${pid} 2> /dev/null || true' EXIT
+  wait_for_health
+
+  # Aquecimento
+  hey -n 2000 -c 50 "${BASE_URL}/api/events?page=0&size=20" > /dev/null
+
+  # Mesma carga nos dois modos: listagem (uma consulta + count) e busca por ID
+  hey -n "${REQUESTS}" -c "${CONCURRENCY}" "${BASE_URL}/api/events?page=0&size=20" | tee "target/${mode}-list.txt"
+  hey -n "${REQUESTS}" -c "${CONCURRENCY}" "${BASE_URL}/api/events/1" | tee "target/${mode}-get.txt"
+
+  kill "${pid}"
+  wait "${pid}" 2> /dev/null || true
+  trap - EXIT
+}
+
+run_mode platform-threads false
+run_mode virtual-threads true
+
+echo
+echo "Resumo (Requests/sec, latência p99 e erros):"
+for file in target/platform-threads-*.txt target/virtual-threads-*.txt; do
+  printf '%s: ' "$(basename "${file}" .txt)"
+  rps="$(grep 'Requests/sec' "${file}" | awk '{print $2}')"
+  p99="$(grep '99% in' "${file}" | awk '{print $3}')"
+  errors="$(grep -c 'Error distribution' "${file}" || true)"
+  echo "${rps} req/s, p99 ${p99}s, erros: ${errors}"
+done
@@ -1,21 +1,48 @@
 package com.gestao.eventos.adapters.inbound.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestao.eventos.adapters.inbound.rest.stream.EventChangeBroadcaster;
+import com.gestao.eventos.adapters.inbound.rest.transfer.DataFormat;
+import com.gestao.eventos.adapters.inbound.rest.transfer.EventExportWriter;
+import com.gestao.eventos.adapters.inbound.rest.transfer.EventImportReader;
 import com.gestao.eventos.application.CreateEventUseCase;
+import com.gestao.eventos.application.CreateEventsBatchUseCase;
 import com.gestao.eventos.application.DeleteEventUseCase;
+import com.gestao.eventos.application.ExportEventsUseCase;
 import com.gestao.eventos.application.GetEventUseCase;
+import com.gestao.eventos.application.ImportEventsUseCase;
+import com.gestao.eventos.application.IngestEventUseCase;
 import com.gestao.eventos.application.ListEventsUseCase;
+import com.gestao.eventos.application.SearchEventsUseCase;
 import com.gestao.eventos.application.UpdateEventUseCase;
+import com.gestao.eventos.application.dto.BatchCreateResponse;
+import com.gestao.eventos.application.dto.CursorPage;
 import com.gestao.eventos.application.dto.EventRequest;
 import com.gestao.eventos.application.dto.EventResponse;
+import com.gestao.eventos.application.dto.ImportReport;
+import com.gestao.eventos.application.dto.IngestionStatusResponse;
+import com.gestao.eventos.application.dto.PageResponse;
+import com.gestao.eventos.application.dto.SliceResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Controller REST para gerenciamento de eventos.
@@ -30,36 +57,231 @@ public class EventController {
     private final ListEventsUseCase listEventsUseCase;
     private final UpdateEventUseCase updateEventUseCase;
     private final DeleteEventUseCase deleteEventUseCase;
+    private final CreateEventsBatchUseCase createEventsBatchUseCase;
+    private final ExportEventsUseCase exportEventsUseCase;
+    private final ImportEventsUseCase importEventsUseCase;
+    private final SearchEventsUseCase searchEventsUseCase;
+    private final IngestEventUseCase ingestEventUseCase;
+    private final EventChangeBroadcaster eventChangeBroadcaster;
+    private final ObjectMapper objectMapper;
     
     public EventController(
             CreateEventUseCase createEventUseCase,
             GetEventUseCase getEventUseCase,
             ListEventsUseCase listEventsUseCase,
             UpdateEventUseCase updateEventUseCase,
-            DeleteEventUseCase deleteEventUseCase) {
+            DeleteEventUseCase deleteEventUseCase,
+            CreateEventsBatchUseCase createEventsBatchUseCase,
+            ExportEventsUseCase exportEventsUseCase,
+            ImportEventsUseCase importEventsUseCase,
+            SearchEventsUseCase searchEventsUseCase,
+            IngestEventUseCase ingestEventUseCase,
+            EventChangeBroadcaster eventChangeBroadcaster,
+            ObjectMapper objectMapper) {
         this.createEventUseCase = createEventUseCase;
         this.getEventUseCase = getEventUseCase;
         this.listEventsUseCase = listEventsUseCase;
         this.updateEventUseCase = updateEventUseCase;
         this.deleteEventUseCase = deleteEventUseCase;
+        this.createEventsBatchUseCase = createEventsBatchUseCase;
+        this.exportEventsUseCase = exportEventsUseCase;
+        this.importEventsUseCase = importEventsUseCase;
+        this.searchEventsUseCase = searchEventsUseCase;
+        this.ingestEventUseCase = ingestEventUseCase;
+        this.eventChangeBroadcaster = eventChangeBroadcaster;
+        this.objectMapper = objectMapper;
     }
     
     /**
-     * Lista eventos com paginação.
+     * Lista eventos com paginação, opcionalmente filtrando por período.
      * 
-     * @param pageable Configuração de paginação (page, size)
+     * @param from Início do período, inclusivo
+     * @param to Fim do período, exclusivo
+     * @param upcoming Apenas próximos eventos, ordenados pela data mais próxima
+     * @param view Formato dos itens: full (padrão) ou summary (descrição truncada)
+     * @param fields Campos a retornar (e a ler do banco); o id é sempre incluído
+     * @param pageable Configuração de paginação (page, size, sort)
      * @return Página de eventos
      */
-    @Operation(summary = "Lista eventos", description = "Retorna uma página de eventos com paginação")
+    @Operation(summary = "Lista eventos", 
+            description = "Retorna uma página de eventos com paginação; aceita filtro por período (from/to), próximos eventos (upcoming), "
+                    + "formato resumido (view=summary) ou seleção de campos (fields)")
     @GetMapping
-    public ResponseEntity<Page<EventResponse>> list(
-            @Parameter(description = "Configuração de paginação (page, size)") 
+    public ResponseEntity<PageResponse<?>> list(
+            @Parameter(description = "Início do período, inclusivo (ISO-8601, ex.: 2024-12-01T00:00:00)") 
+            @RequestParam(required = false) 
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) 
+            LocalDateTime from,
+
+            @Parameter(description = "Fim do período, exclusivo (ISO-8601)") 
+            @RequestParam(required = false) 
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) 
+            LocalDateTime to,
+
+            @Parameter(description = "Apenas eventos a partir de agora, ordenados por eventAt, id (ignora sort)") 
+            @RequestParam(defaultValue = "false") 
+            boolean upcoming,
+
+            @Parameter(description = "Formato dos itens: full ou summary (id, title, eventAt, location e descrição truncada)") 
+            @RequestParam(defaultValue = "full") 
+            String view,
+
+            @Parameter(description = "Campos a retornar, separados por vírgula (id, title, description, eventAt, location, createdAt)") 
+            @RequestParam(required = false) 
+            List<String> fields,
+
+            @Parameter(description = "Configuração de paginação (page, size, sort); padrão ordenado por eventAt, id") 
+            @PageableDefault(size = 20, sort = {"eventAt", "id"}) 
             Pageable pageable
     ) {
-        Page<EventResponse> events = listEventsUseCase.list(pageable);
+        boolean periodFilter = from != null || to != null || upcoming;
+        boolean summaryView = parseSummaryView(view);
+        
+        if (fields != null && !fields.isEmpty()) {
+            if (periodFilter || summaryView) {
+                throw new IllegalArgumentException("Fields não pode ser combinado com from, to, upcoming ou view=summary");
+            }
+            return ResponseEntity.ok(PageResponse.of(listEventsUseCase.listFields(fields, pageable)));
+        }
+        if (summaryView) {
+            if (periodFilter) {
+                throw new IllegalArgumentException("View=summary não pode ser combinado com from, to ou upcoming");
+            }
+            return ResponseEntity.ok(PageResponse.of(listEventsUseCase.listSummaries(pageable)));
+        }
+        
+        Page<EventResponse> events = listEventsUseCase.list(from, to, upcoming, pageable);
+        return ResponseEntity.ok(PageResponse.of(events));
+    }
+    
+    /**
+     * Lista eventos com paginação sem contagem exata.
+     * 
+     * @param pageable Configuração de paginação (page, size)
+     * @param estimateTotal Inclui total aproximado (estatísticas do banco) em vez do count(*) exato
+     * @return Slice de eventos
+     */
+    @Operation(summary = "Lista eventos sem contagem", 
+            description = "Retorna uma página de eventos indicando apenas se há próxima página; opcionalmente inclui um total aproximado")
+    @GetMapping("/slice")
+    public ResponseEntity<SliceResponse<EventResponse>> listSlice(
+            @Parameter(description = "Configuração de paginação (page, size, sort); padrão ordenado por eventAt, id") 
+            @PageableDefault(size = 20, sort = {"eventAt", "id"}) 
+            Pageable pageable,
+
+            @Parameter(description = "Inclui total aproximado de eventos (sem count(*))") 
+            @RequestParam(defaultValue = "false") 
+            boolean estimateTotal
+    ) {
+        SliceResponse<EventResponse> events = listEventsUseCase.listSlice(pageable, estimateTotal);
+        return ResponseEntity.ok(events);
+    }
+    
+    /**
+     * Lista eventos com paginação por cursor (keyset).
+     * 
+     * @param after Cursor opaco da página anterior (ausente na primeira página)
+     * @param size Tamanho da página
+     * @return Página de eventos com o cursor da próxima página
+     */
+    @Operation(summary = "Lista eventos por cursor", 
+            description = "Retorna eventos ordenados por data usando paginação keyset; páginas profundas têm o mesmo custo da primeira")
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<EventResponse>> listByCursor(
+            @Parameter(description = "Cursor opaco retornado em nextCursor da página anterior") 
+            @RequestParam(required = false) 
+            String after,
+
+            @Parameter(description = "Tamanho da página (1 a 100)") 
+            @RequestParam(defaultValue = "20") 
+            int size
+    ) {
+        CursorPage<EventResponse> events = listEventsUseCase.listAfter(after, size);
         return ResponseEntity.ok(events);
     }
     
+    /**
+     * Busca eventos por texto no título, descrição e local.
+     * 
+     * @param q Texto da busca
+     * @param pageable Configuração de paginação (page, size)
+     * @return Página de eventos ordenados por relevância
+     */
+    @Operation(summary = "Busca eventos por texto", 
+            description = "Busca textual (português) no título, descrição e local dos eventos; resultados ordenados por relevância")
+    @GetMapping("/search")
+    public ResponseEntity<PageResponse<EventResponse>> search(
+            @Parameter(description = "Texto da busca; aceita \"frase exata\", OR e -termo") 
+            @RequestParam(required = false) 
+            String q,
+
+            @Parameter(description = "Configuração de paginação (page, size)") 
+            @PageableDefault(size = 20) 
+            Pageable pageable
+    ) {
+        Page<EventResponse> events = searchEventsUseCase.search(q, pageable);
+        return ResponseEntity.ok(PageResponse.of(events));
+    }
+    
+    /**
+     * Exporta todos os eventos em streaming.
+     * As linhas são lidas do banco por cursor e escritas incrementalmente,
+     * mantendo o uso de memória constante independentemente do tamanho da tabela.
+     * 
+     * @param format Formato da exportação (ndjson ou csv)
+     * @return Corpo da resposta escrito em streaming
+     */
+    @Operation(summary = "Exporta eventos", 
+            description = "Exporta todos os eventos em streaming nos formatos NDJSON ou CSV")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "Formato da exportação (ndjson ou csv)") 
+            @RequestParam(defaultValue = "ndjson") 
+            String format
+    ) {
+        DataFormat exportFormat = DataFormat.from(format);
+        StreamingResponseBody body = outputStream -> {
+            EventExportWriter writer = new EventExportWriter(exportFormat, outputStream, objectMapper);
+            exportEventsUseCase.export(writer::write);
+            writer.finish();
+        };
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=events." + exportFormat.getExtension())
+                .body(body);
+    }
+    
+    /**
+     * Stream de alterações de eventos (Server-Sent Events).
+     * Mensagens created, updated e deleted com o EventChange em JSON; na reconexão,
+     * as alterações posteriores ao Last-Event-ID são reenviadas ou, se não estiverem
+     * mais disponíveis, é enviada a mensagem reset (o cliente deve recarregar a listagem).
+     * 
+     * @param lastEventIdHeader Último ID recebido (enviado pelo EventSource na reconexão)
+     * @param lastEventId Último ID recebido, para clientes que abrem uma nova conexão
+     * @return Stream de alterações
+     */
+    @Operation(summary = "Stream de alterações de eventos", 
+            description = "Server-Sent Events com as criações, atualizações e exclusões de eventos; retomável com Last-Event-ID")
+    @GetMapping("/stream")
+    public ResponseEntity<SseEmitter> stream(
+            @Parameter(description = "Último ID de mensagem recebido") 
+            @RequestHeader(value = "Last-Event-ID", required = false) 
+            String lastEventIdHeader,
+
+            @Parameter(description = "Último ID de mensagem recebido, alternativa ao cabeçalho Last-Event-ID") 
+            @RequestParam(required = false) 
+            String lastEventId
+    ) {
+        SseEmitter emitter = eventChangeBroadcaster.subscribe(
+                lastEventIdHeader != null ? lastEventIdHeader : lastEventId);
+        return ResponseEntity.ok()
+                // Desativa o buffer de proxies (nginx) para que cada mensagem chegue na hora
+                .header("X-Accel-Buffering", "no")
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .body(emitter);
+    }
+    
     /**
      * Busca um evento por ID.
      * 
@@ -94,6 +316,84 @@ public class EventController {
         return ResponseEntity.status(HttpStatus.CREATED).body(event);
     }
     
+    /**
+     * Enfileira a criação de um evento (ingestão assíncrona).
+     * Os dados são validados na hora; a gravação acontece em segundo plano, em lotes.
+     * 
+     * @param request DTO com os dados do evento
+     * @return Status QUEUED com o ID de acompanhamento
+     */
+    @Operation(summary = "Cria evento de forma assíncrona", 
+            description = "Valida e enfileira o evento, retornando 202 com o ID de acompanhamento; 429 com a fila cheia")
+    @PostMapping(params = "async=true")
+    public ResponseEntity<IngestionStatusResponse> createAsync(
+        @Valid 
+        @RequestBody 
+        EventRequest request
+    ) {
+        IngestionStatusResponse status = ingestEventUseCase.submit(request);
+        return ResponseEntity.accepted()
+                .header(HttpHeaders.LOCATION, "/api/events/ingestion/" + status.trackingId())
+                .body(status);
+    }
+    
+    /**
+     * Consulta o status de um evento enviado com async=true.
+     * 
+     * @param trackingId ID de acompanhamento
+     * @return Status da ingestão (QUEUED, CREATED com o ID do evento ou FAILED)
+     */
+    @Operation(summary = "Status da ingestão assíncrona", 
+            description = "Retorna a situação de um evento enfileirado; disponível por tempo limitado após o envio")
+    @GetMapping("/ingestion/{trackingId}")
+    public ResponseEntity<IngestionStatusResponse> getIngestionStatus(
+            @Parameter(description = "ID de acompanhamento retornado na criação assíncrona") 
+            @PathVariable 
+            String trackingId
+    ) {
+        return ResponseEntity.ok(ingestEventUseCase.getStatus(trackingId));
+    }
+    
+    /**
+     * Cria eventos em lote.
+     * 
+     * @param requests Lista de DTOs com os dados dos eventos
+     * @return Relatório com os eventos criados e os erros por item
+     */
+    @Operation(summary = "Cria eventos em lote", 
+            description = "Valida cada item individualmente e cria os eventos válidos com INSERTs em batch; retorna os erros por item")
+    @PostMapping("/batch")
+    public ResponseEntity<BatchCreateResponse> createBatch(
+        @RequestBody 
+        List<EventRequest> requests
+    ) {
+        BatchCreateResponse response = createEventsBatchUseCase.createAll(requests);
+        HttpStatus status = response.created().isEmpty() ? HttpStatus.BAD_REQUEST : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(response);
+    }
+    
+    /**
+     * Importa eventos em massa a partir de um arquivo NDJSON ou CSV.
+     * O corpo é lido em streaming e as linhas válidas são inseridas em blocos.
+     * 
+     * @param contentType application/x-ndjson ou text/csv (com cabeçalho)
+     * @param body Conteúdo do arquivo
+     * @return Relatório com a quantidade importada e as linhas rejeitadas
+     */
+    @Operation(summary = "Importa eventos em massa", 
+            description = "Importa eventos de um arquivo NDJSON ou CSV (colunas title, description, eventAt, location); linhas inválidas são rejeitadas e reportadas")
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ImportReport> importEvents(
+        @RequestHeader(HttpHeaders.CONTENT_TYPE) 
+        String contentType,
+
+        InputStream body
+    ) throws IOException {
+        DataFormat format = DataFormat.from(MediaType.parseMediaType(contentType));
+        ImportReport report = importEventsUseCase.importEvents(new EventImportReader(format, body, objectMapper));
+        return ResponseEntity.ok(report);
+    }
+    
     /**
      * Atualiza um evento existente.
      * 
@@ -132,5 +432,14 @@ public class EventController {
         deleteEventUseCase.delete(id);
         return ResponseEntity.noContent().build();
     }
+    
+    private boolean parseSummaryView(String view) {
+        if ("summary".equalsIgnoreCase(view)) {
+            return true;
+        }
+        if ("full".equalsIgnoreCase(view)) {
+            return false;
+        }
+        throw new IllegalArgumentException("View inválida: " + view + ". Use summary ou full");
+    }
 }
-
@@ -0,0 +1,55 @@
+package com.gestao.eventos.adapters.inbound.rest;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.gestao.eventos.application.dto.PageResponse;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Serializador de PageResponse que escreve os itens diretamente no JsonGenerator
+ * (e daí na saída da resposta), sem árvore intermediária.
+ *
+ * O serializador dos itens é resolvido uma vez por tipo em vez de a cada item,
+ * e os campos de paginação são escritos em ordem fixa após o conteúdo.
+ */
+@JsonComponent
+public class PageResponseJsonSerializer extends StdSerializer<PageResponse<?>> {
+    
+    public PageResponseJsonSerializer() {
+        super(PageResponse.class, false);
+    }
+    
+    @Override
+    public void serialize(PageResponse<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        List<?> content = value.content();
+        gen.writeStartObject(value);
+        gen.writeFieldName("content");
+        gen.writeStartArray(content, content.size());
+        
+        Class<?> itemType = null;
+        JsonSerializer<Object> itemSerializer = null;
+        for (Object item : content) {
+            if (item == null) {
+                provider.defaultSerializeNull(gen);
+                continue;
+            }
+            if (item.getClass() != itemType) {
+                itemType = item.getClass();
+                itemSerializer = provider.findValueSerializer(itemType);
+            }
+            itemSerializer.serialize(item, gen, provider);
+        }
+        
+        gen.writeEndArray();
+        gen.writeNumberField("page", value.page());
+        gen.writeNumberField("size", value.size());
+        gen.writeNumberField("totalElements", value.totalElements());
+        gen.writeNumberField("totalPages", value.totalPages());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,74 @@
+package com.gestao.eventos.adapters.inbound.rest;
+
+import com.gestao.eventos.application.ReactiveGetEventUseCase;
+import com.gestao.eventos.application.ReactiveListEventsUseCase;
+import com.gestao.eventos.application.dto.EventResponse;
+import com.gestao.eventos.application.dto.PageResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controller REST para leitura reativa de eventos.
+ * Os handlers retornam Mono: a thread da requisição é liberada enquanto a consulta
+ * executa, e a resposta é escrita quando o resultado fica disponível.
+ * No perfil r2dbc as consultas são não bloqueantes (R2DBC).
+ */
+@Tag(name = "Events (reativo)", description = "Leitura de eventos com handlers não bloqueantes")
+@RestController
+@RequestMapping("/api/reactive/events")
+public class ReactiveEventController {
+    
+    private final ReactiveGetEventUseCase reactiveGetEventUseCase;
+    private final ReactiveListEventsUseCase reactiveListEventsUseCase;
+    
+    public ReactiveEventController(
+            ReactiveGetEventUseCase reactiveGetEventUseCase,
+            ReactiveListEventsUseCase reactiveListEventsUseCase) {
+        this.reactiveGetEventUseCase = reactiveGetEventUseCase;
+        this.reactiveListEventsUseCase = reactiveListEventsUseCase;
+    }
+    
+    /**
+     * Lista eventos com paginação, ordenados por data do evento.
+     * 
+     * @param page Número da página (começa em 0)
+     * @param size Tamanho da página
+     * @return Página de eventos
+     */
+    @Operation(summary = "Lista eventos (reativo)", description = "Retorna uma página de eventos ordenados por eventAt, id")
+    @GetMapping
+    public Mono<PageResponse<EventResponse>> list(
+            @Parameter(description = "Número da página (começa em 0)") 
+            @RequestParam(defaultValue = "0") 
+            int page,
+
+            @Parameter(description = "Tamanho da página (1 a 100)") 
+            @RequestParam(defaultValue = "20") 
+            int size
+    ) {
+        return reactiveListEventsUseCase.list(page, size).map(PageResponse::of);
+    }
+    
+    /**
+     * Busca um evento por ID.
+     * 
+     * @param id ID do evento
+     * @return Dados do evento
+     */
+    @Operation(summary = "Busca evento por ID (reativo)", description = "Retorna os dados de um evento específico")
+    @GetMapping("/{id}")
+    public Mono<EventResponse> getById(
+            @Parameter(description = "ID do evento") 
+            @PathVariable 
+            Long id
+    ) {
+        return reactiveGetEventUseCase.getById(id);
+    }
+}
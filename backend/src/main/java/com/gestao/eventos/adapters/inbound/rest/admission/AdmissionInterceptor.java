@@ -0,0 +1,169 @@
+package com.gestao.eventos.adapters.inbound.rest.admission;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gestao.eventos.config.AdmissionProperties;
+import com.gestao.eventos.config.ClientIdResolver;
+import com.gestao.eventos.config.RequestEndpoints;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admissão de requisições da API, antes de chegarem aos controllers.
+ *
+ * Cada cliente (chave de API configurada ou IP) tem um balde de tokens por endpoint; sem token,
+ * a requisição é recusada com 429. Depois, a requisição ocupa uma vaga no bulkhead
+ * da sua categoria (leitura ou escrita) até terminar; sem vaga dentro da espera
+ * configurada, é recusada com 503. Ambas as respostas trazem Retry-After.
+ *
+ * Métricas: app.admission.rejected (reason, category), app.admission.bulkhead.in-use,
+ * app.admission.bulkhead.max (category) e app.admission.clients.
+ */
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".permit";
+
+    private final AdmissionProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ClientIdResolver clientIdResolver;
+    private final Cache<String, TokenBucket> buckets;
+    private final Bulkhead readBulkhead;
+    private final Bulkhead writeBulkhead;
+
+    public AdmissionInterceptor(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        validate(properties.read().rate(), properties.read().burst(), "read");
+        validate(properties.write().rate(), properties.write().burst(), "write");
+        properties.endpoints().forEach((endpoint, limit) -> validate(limit.rate(), limit.burst(), endpoint));
+
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clientIdResolver = new ClientIdResolver(properties.clientIdHeader(), properties.apiKeys());
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxTrackedClients())
+                .expireAfterAccess(properties.clientIdleTimeout())
+                .build();
+        this.readBulkhead = new Bulkhead(properties.read().maxConcurrent(), properties.read().maxWait());
+        this.writeBulkhead = new Bulkhead(properties.write().maxConcurrent(), properties.write().maxWait());
+
+        registerBulkheadGauges("read", readBulkhead);
+        registerBulkheadGauges("write", writeBulkhead);
+        Gauge.builder("app.admission.clients", buckets, Cache::estimatedSize)
+                .description("Baldes de tokens de clientes em memória")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Respostas assíncronas (Mono, streaming) são redespachadas: a admissão já foi feita
+        if (request.getDispatcherType() == DispatcherType.ASYNC || request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            return true;
+        }
+
+        boolean write = !isRead(request.getMethod());
+        String category = write ? "write" : "read";
+        String endpoint = RequestEndpoints.of(request);
+
+        TokenBucket bucket = buckets.get(clientIdResolver.resolve(request) + '|' + endpoint, key -> newBucket(endpoint, write));
+        long waitNanos = bucket.tryConsume(System.nanoTime());
+        if (waitNanos > 0) {
+            reject(category, "rate_limit");
+            throw new AdmissionRejectedException(HttpStatus.TOO_MANY_REQUESTS,
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)),
+                    "Limite de requisições excedido para " + endpoint);
+        }
+
+        Bulkhead bulkhead = write ? writeBulkhead : readBulkhead;
+        if (!acquire(bulkhead)) {
+            reject(category, "bulkhead");
+            throw new AdmissionRejectedException(HttpStatus.SERVICE_UNAVAILABLE, 1,
+                    "Capacidade de " + (write ? "escrita" : "leitura") + " esgotada; tente novamente");
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(bulkhead));
+        return true;
+    }
+
+    /**
+     * Chamado ao fim da requisição; em respostas assíncronas, ao fim do redespacho.
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit && !request.isAsyncStarted()) {
+            permit.release();
+        }
+    }
+
+    private TokenBucket newBucket(String endpoint, boolean write) {
+        AdmissionProperties.RateLimit override = properties.endpoints().get(endpoint);
+        AdmissionProperties.Limits limits = write ? properties.write() : properties.read();
+        return override != null
+                ? new TokenBucket(override.rate(), override.burst(), System.nanoTime())
+                : new TokenBucket(limits.rate(), limits.burst(), System.nanoTime());
+    }
+
+    private static boolean isRead(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+
+    private static boolean acquire(Bulkhead bulkhead) {
+        try {
+            return bulkhead.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reject(String category, String reason) {
+        Counter.builder("app.admission.rejected")
+                .description("Requisições recusadas na admissão")
+                .tag("category", category)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void registerBulkheadGauges(String category, Bulkhead bulkhead) {
+        Gauge.builder("app.admission.bulkhead.in-use", bulkhead, Bulkhead::inUse)
+                .description("Requisições em andamento na categoria")
+                .tag("category", category)
+                .register(meterRegistry);
+        Gauge.builder("app.admission.bulkhead.max", bulkhead, Bulkhead::maxConcurrent)
+                .description("Limite de requisições simultâneas da categoria")
+                .tag("category", category)
+                .register(meterRegistry);
+    }
+
+    private static void validate(double rate, int burst, String name) {
+        if (rate <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Limite de admissão inválido para " + name + ": rate e burst devem ser positivos");
+        }
+    }
+
+    /**
+     * Vaga no bulkhead, devolvida uma única vez.
+     */
+    private static final class Permit {
+
+        private final Bulkhead bulkhead;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Permit(Bulkhead bulkhead) {
+            this.bulkhead = bulkhead;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.gestao.eventos.adapters.inbound.rest.admission;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Requisição recusada na admissão: 429 (limite de taxa do cliente)
+ * ou 503 (bulkhead da categoria cheio), com o tempo sugerido para nova tentativa.
+ */
+public class AdmissionRejectedException extends RuntimeException {
+    
+    private final HttpStatus status;
+    private final long retryAfterSeconds;
+    
+    public AdmissionRejectedException(HttpStatus status, long retryAfterSeconds, String message) {
+        super(message);
+        this.status = status;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public HttpStatus getStatus() {
+        return status;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,39 @@
+package com.gestao.eventos.adapters.inbound.rest.admission;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limite de requisições simultâneas de uma categoria (leitura ou escrita),
+ * compartilhado por todos os clientes. Escritas lentas esgotam o próprio
+ * bulkhead sem ocupar as vagas (e conexões) das leituras.
+ */
+final class Bulkhead {
+    
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    
+    Bulkhead(int maxConcurrent, Duration maxWait) {
+        this.permits = new Semaphore(maxConcurrent);
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+    
+    boolean tryAcquire() throws InterruptedException {
+        return permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+    }
+    
+    void release() {
+        permits.release();
+    }
+    
+    int inUse() {
+        return maxConcurrent - permits.availablePermits();
+    }
+    
+    int maxConcurrent() {
+        return maxConcurrent;
+    }
+}
@@ -0,0 +1,35 @@
+package com.gestao.eventos.adapters.inbound.rest.admission;
+
+/**
+ * Balde de tokens de um cliente em um endpoint: comporta rajadas de até
+ * burst requisições e repõe rate tokens por segundo.
+ */
+final class TokenBucket {
+    
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+    
+    TokenBucket(double ratePerSecond, int burst, long nowNanos) {
+        this.capacity = burst;
+        this.tokensPerNano = ratePerSecond / 1_000_000_000d;
+        this.tokens = burst;
+        this.lastRefillNanos = nowNanos;
+    }
+    
+    /**
+     * Consome um token, se houver.
+     * 
+     * @return 0 se o token foi consumido; caso contrário, nanossegundos até o próximo token
+     */
+    synchronized long tryConsume(long nowNanos) {
+        tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = nowNanos;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+}
@@ -1,11 +1,17 @@
 package com.gestao.eventos.adapters.inbound.rest.exception;
 
+import com.gestao.eventos.adapters.inbound.rest.admission.AdmissionRejectedException;
+import com.gestao.eventos.application.IngestionQueueFullException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -54,6 +60,63 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errorResponse);
     }
     
+    /**
+     * Trata fila de ingestão cheia (backpressure): 429 com Retry-After.
+     */
+    @ExceptionHandler(IngestionQueueFullException.class)
+    public ResponseEntity<ErrorResponse> handleIngestionQueueFullException(IngestionQueueFullException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Muitas requisições",
+                ex.getMessage(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                LocalDateTime.now()
+        );
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+    
+    /**
+     * Trata requisições recusadas na admissão (429 ou 503) com Retry-After.
+     */
+    @ExceptionHandler(AdmissionRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleAdmissionRejectedException(AdmissionRejectedException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                ex.getStatus() == HttpStatus.TOO_MANY_REQUESTS ? "Muitas requisições" : "Serviço temporariamente sobrecarregado",
+                ex.getMessage(),
+                ex.getStatus().value(),
+                LocalDateTime.now()
+        );
+        
+        return ResponseEntity.status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+    
+    /**
+     * Trata o timeout de respostas assíncronas.
+     * No stream de eventos a resposta já foi iniciada como text/event-stream: nada é escrito.
+     */
+    @ExceptionHandler(AsyncRequestTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleAsyncRequestTimeoutException(AsyncRequestTimeoutException ex,
+                                                                            HttpServletResponse response) {
+        String contentType = response.getContentType();
+        if (response.isCommitted()
+                || (contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE))) {
+            return null;
+        }
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                "Serviço temporariamente sobrecarregado",
+                "Tempo de resposta esgotado",
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                LocalDateTime.now()
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+    
     /**
      * Trata exceções genéricas.
      */
@@ -0,0 +1,431 @@
+package com.gestao.eventos.adapters.inbound.rest.stream;
+
+import com.gestao.eventos.adapters.inbound.rest.admission.AdmissionRejectedException;
+import com.gestao.eventos.application.dto.EventChange;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Distribui as alterações de eventos aos clientes de GET /api/events/stream (Server-Sent Events).
+ *
+ * As conexões são respostas assíncronas (SseEmitter): nenhuma thread fica presa por cliente.
+ * Uma única thread de despacho numera cada alteração, guarda-a no histórico e a coloca na
+ * fila de cada cliente; assinaturas, reenvios e heartbeats passam pela mesma thread, então
+ * cada cliente recebe as alterações uma vez e em ordem.
+ *
+ * A escrita na conexão é feita por threads de envio, uma por vez para cada cliente, fora da
+ * thread de despacho: um cliente lento não atrasa os demais. O cliente cuja fila enche ou
+ * cujo envio passa do prazo é desconectado e, ao reconectar, retoma pelo histórico.
+ *
+ * Os IDs das mensagens têm o formato {@code <época>:<sequência>}. Na reconexão, o cliente
+ * informa o último ID recebido (Last-Event-ID) e recebe as alterações seguintes do histórico.
+ * Se o ID for de outra época (outra instância ou reinício) ou já tiver saído do histórico,
+ * o cliente recebe {@code reset} e deve recarregar a listagem.
+ *
+ * O histórico e as conexões são locais a cada instância da aplicação.
+ */
+@Component
+public class EventChangeBroadcaster implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(EventChangeBroadcaster.class);
+
+    private static final long RECONNECT_MILLIS = 3000;
+    private static final long IDLE = Long.MIN_VALUE;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<SseEmitter, Client> clients = new ConcurrentHashMap<>();
+    private final Deque<Message> history = new ArrayDeque<>();
+    private final MeterRegistry meterRegistry;
+    private final int historySize;
+    private final int maxClients;
+    private final long timeoutMillis;
+    private final int clientQueueSize;
+    private final long sendTimeoutNanos;
+
+    private volatile ExecutorService dispatcher;
+    private volatile ExecutorService senders;
+    private long sequence;
+
+    public EventChangeBroadcaster(MeterRegistry meterRegistry,
+                                  @Value("${app.events.stream.history-size}") int historySize,
+                                  @Value("${app.events.stream.max-clients}") int maxClients,
+                                  @Value("${app.events.stream.timeout}") Duration timeout,
+                                  @Value("${app.events.stream.client-queue-size}") int clientQueueSize,
+                                  @Value("${app.events.stream.send-timeout}") Duration sendTimeout) {
+        if (historySize < 1 || maxClients < 1 || clientQueueSize < 1) {
+            throw new IllegalArgumentException(
+                    "app.events.stream: history-size, max-clients e client-queue-size devem ser positivos");
+        }
+        this.meterRegistry = meterRegistry;
+        this.historySize = historySize;
+        this.maxClients = maxClients;
+        this.timeoutMillis = timeout.toMillis();
+        this.clientQueueSize = clientQueueSize;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+
+        Gauge.builder("app.stream.clients", clients, Map::size)
+                .description("Clientes conectados ao stream de alterações de eventos")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Abre o stream de um cliente.
+     *
+     * @param lastEventId Último ID recebido pelo cliente (ausente na primeira conexão)
+     * @return Emitter da resposta assíncrona
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (!isRunning()) {
+            throw new AdmissionRejectedException(HttpStatus.SERVICE_UNAVAILABLE, RECONNECT_MILLIS / 1000,
+                    "Stream de eventos indisponível: aplicação encerrando");
+        }
+        if (clients.size() >= maxClients) {
+            throw new AdmissionRejectedException(HttpStatus.SERVICE_UNAVAILABLE, RECONNECT_MILLIS / 1000,
+                    "Limite de conexões do stream de eventos atingido");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        register(emitter, lastEventId);
+        return emitter;
+    }
+
+    /**
+     * Registra o emitter de um cliente; a primeira mensagem (ready, reset ou reenvio)
+     * é enviada pela thread de despacho.
+     */
+    void register(SseEmitter emitter, String lastEventId) {
+        emitter.onCompletion(() -> clients.remove(emitter));
+        // Sem complete(), o timeout chegaria ao GlobalExceptionHandler com a resposta já em text/event-stream
+        emitter.onTimeout(() -> {
+            clients.remove(emitter);
+            emitter.complete();
+        });
+        emitter.onError(error -> clients.remove(emitter));
+        dispatch(() -> replay(new Client(emitter), lastEventId));
+    }
+
+    /**
+     * Recebe as alterações após o commit da transação de escrita
+     * (ou na hora, se publicadas fora de uma transação).
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChange(EventChange change) {
+        dispatch(() -> {
+            Message message = new Message(++sequence, change);
+            history.addLast(message);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+            for (Client client : clients.values()) {
+                enqueue(client, event(message));
+            }
+        });
+    }
+
+    /**
+     * Comentário periódico: mantém a conexão aberta em proxies e detecta clientes desconectados.
+     * Também desconecta os clientes com um envio parado além de app.events.stream.send-timeout.
+     */
+    @Scheduled(fixedDelayString = "${app.events.stream.heartbeat-interval}")
+    public void heartbeat() {
+        dispatch(() -> {
+            long now = System.nanoTime();
+            for (Client client : clients.values()) {
+                if (client.isStalled(now)) {
+                    drop(client, "send_timeout");
+                } else if (client.isIdle()) {
+                    enqueue(client, SseEmitter.event().comment("heartbeat"));
+                }
+            }
+        });
+    }
+
+    /**
+     * Quantidade de clientes conectados.
+     */
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    @Override
+    public void start() {
+        dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "event-stream-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger senderCount = new AtomicInteger();
+        // Threads criadas sob demanda, no máximo uma por cliente com mensagens pendentes
+        senders = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "event-stream-sender-" + senderCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Encerra os streams antes do desligamento gracioso do servidor web,
+     * que de outra forma aguardaria as conexões abertas até o timeout.
+     */
+    @Override
+    public void stop() {
+        ExecutorService executor = dispatcher;
+        dispatcher = null;
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ExecutorService senderExecutor = senders;
+        senders = null;
+        clients.keySet().forEach(SseEmitter::complete);
+        clients.clear();
+        senderExecutor.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return dispatcher != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+
+    /**
+     * Coloca na fila do cliente as alterações posteriores ao seu último ID e passa a incluí-lo
+     * no envio. Se as alterações perdidas não couberem na fila, o cliente recebe reset.
+     */
+    private void replay(Client client, String lastEventId) {
+        long lastSequence = sequenceOf(lastEventId);
+        long oldest = history.isEmpty() ? sequence + 1 : history.getFirst().sequence();
+        boolean resumable = lastSequence >= 0 && lastSequence <= sequence && lastSequence >= oldest - 1;
+
+        List<SseEmitter.SseEventBuilder> events = new ArrayList<>();
+        if (lastEventId == null || lastEventId.isBlank()) {
+            events.add(control("ready"));
+        } else if (!resumable || sequence - lastSequence >= clientQueueSize) {
+            events.add(control("reset"));
+        } else {
+            events.add(SseEmitter.event().reconnectTime(RECONNECT_MILLIS).comment("resume"));
+            for (Message message : history) {
+                if (message.sequence() > lastSequence) {
+                    events.add(event(message));
+                }
+            }
+        }
+        for (SseEmitter.SseEventBuilder event : events) {
+            if (!client.offer(event)) {
+                client.close();
+                return;
+            }
+        }
+        clients.put(client.emitter, client);
+    }
+
+    private SseEmitter.SseEventBuilder control(String name) {
+        return SseEmitter.event()
+                .id(epoch + ':' + sequence)
+                .name(name)
+                .reconnectTime(RECONNECT_MILLIS)
+                .data("{}", MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Mensagem de uma alteração; criada para cada cliente, pois o builder acumula o texto ao ser enviado.
+     */
+    private SseEmitter.SseEventBuilder event(Message message) {
+        EventChange change = message.change();
+        return SseEmitter.event()
+                .id(epoch + ':' + message.sequence())
+                .name(change.type().name().toLowerCase(Locale.ROOT))
+                .data(change, MediaType.APPLICATION_JSON);
+    }
+
+    private void enqueue(Client client, SseEmitter.SseEventBuilder event) {
+        if (!client.offer(event)) {
+            drop(client, "queue_full");
+        }
+    }
+
+    /**
+     * Desconecta um cliente lento; o navegador reconecta e retoma pelo Last-Event-ID.
+     */
+    private void drop(Client client, String reason) {
+        if (clients.remove(client.emitter, client)) {
+            client.close();
+            Counter.builder("app.stream.clients.dropped")
+                    .description("Clientes do stream desconectados por lentidão")
+                    .tag("reason", reason)
+                    .register(meterRegistry)
+                    .increment();
+            log.debug("Cliente do stream de eventos desconectado: {}", reason);
+        }
+    }
+
+    /**
+     * Sequência de um ID desta época, ou -1 se o ID for inválido ou de outra época.
+     */
+    private long sequenceOf(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(epoch + ':')) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(epoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void dispatch(Runnable task) {
+        ExecutorService executor = dispatcher;
+        if (executor == null) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("Falha no envio do stream de eventos", e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Stream de eventos encerrado; alteração descartada");
+        }
+    }
+
+    /**
+     * Alteração numerada guardada no histórico.
+     */
+    private record Message(long sequence, EventChange change) {}
+
+    /**
+     * Cliente conectado: fila limitada de mensagens, escritas em ordem por uma thread de envio
+     * de cada vez.
+     */
+    private final class Client {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue = new ArrayBlockingQueue<>(clientQueueSize);
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile long sendStartedAt = IDLE;
+
+        Client(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        /**
+         * Coloca a mensagem na fila; false se a fila estiver cheia.
+         */
+        boolean offer(SseEmitter.SseEventBuilder event) {
+            if (!queue.offer(event)) {
+                return false;
+            }
+            scheduleSend();
+            return true;
+        }
+
+        boolean isIdle() {
+            return queue.isEmpty() && sendStartedAt == IDLE;
+        }
+
+        boolean isStalled(long now) {
+            long startedAt = sendStartedAt;
+            return startedAt != IDLE && now - startedAt > sendTimeoutNanos;
+        }
+
+        /**
+         * Encerra a conexão em uma thread de envio: o complete() aguarda uma escrita parada.
+         */
+        void close() {
+            queue.clear();
+            ExecutorService executor = senders;
+            if (executor == null) {
+                return;
+            }
+            try {
+                executor.execute(emitter::complete);
+            } catch (RejectedExecutionException e) {
+                log.debug("Stream de eventos encerrado; cliente já desconectado");
+            }
+        }
+
+        private void scheduleSend() {
+            ExecutorService executor = senders;
+            if (executor == null || !sending.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::sendQueued);
+            } catch (RejectedExecutionException e) {
+                sending.set(false);
+            }
+        }
+
+        /**
+         * Envia as mensagens da fila; em caso de falha, o cliente é removido
+         * (o Spring MVC encerra a resposta assíncrona que falhou).
+         */
+        private void sendQueued() {
+            SseEmitter.SseEventBuilder event;
+            while ((event = queue.poll()) != null) {
+                sendStartedAt = System.nanoTime();
+                try {
+                    emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    disconnect();
+                } catch (RuntimeException e) {
+                    log.error("Falha no envio do stream de eventos", e);
+                    disconnect();
+                } finally {
+                    sendStartedAt = IDLE;
+                }
+            }
+            sending.set(false);
+            // Mensagem colocada na fila depois do último poll
+            if (!queue.isEmpty()) {
+                scheduleSend();
+            }
+        }
+
+        private void disconnect() {
+            clients.remove(emitter, this);
+            queue.clear();
+        }
+    }
+}
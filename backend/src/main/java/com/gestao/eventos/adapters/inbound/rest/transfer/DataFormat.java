@@ -0,0 +1,61 @@
+package com.gestao.eventos.adapters.inbound.rest.transfer;
+
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+/**
+ * Formatos suportados pela exportação e importação de eventos.
+ */
+public enum DataFormat {
+
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    DataFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Converte o parâmetro da requisição no formato correspondente.
+     *
+     * @param value Nome do formato (ndjson ou csv)
+     * @return Formato de exportação
+     * @throws IllegalArgumentException se o formato não for suportado
+     */
+    public static DataFormat from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Formato não suportado: " + value);
+        }
+    }
+
+    /**
+     * Identifica o formato a partir do Content-Type da requisição.
+     *
+     * @param mediaType Content-Type recebido
+     * @return Formato correspondente
+     * @throws IllegalArgumentException se o formato não for suportado
+     */
+    public static DataFormat from(MediaType mediaType) {
+        for (DataFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Formato não suportado: " + mediaType);
+    }
+}
@@ -0,0 +1,109 @@
+package com.gestao.eventos.adapters.inbound.rest.transfer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.gestao.eventos.application.dto.EventResponse;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * Escreve eventos incrementalmente na resposta HTTP (NDJSON ou CSV).
+ * O buffer é descarregado periodicamente para que o cliente receba os primeiros
+ * bytes antes do término da consulta; nenhuma linha é acumulada em memória.
+ */
+public class EventExportWriter {
+
+    private static final int FLUSH_INTERVAL = 100;
+
+    private static final String CSV_HEADER = "id,title,description,eventAt,location,createdAt";
+
+    private final DataFormat format;
+    private final Writer writer;
+    private final ObjectWriter jsonWriter;
+    private long rows;
+
+    public EventExportWriter(DataFormat format, OutputStream outputStream, ObjectMapper objectMapper) {
+        this.format = format;
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        // Evita que o Jackson feche a resposta após cada linha
+        this.jsonWriter = objectMapper.writerFor(EventResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (format == DataFormat.CSV) {
+            writeLine(CSV_HEADER);
+        }
+    }
+
+    /**
+     * Escreve um evento como uma linha do formato de exportação.
+     *
+     * @param event Evento a ser escrito
+     * @throws UncheckedIOException se o cliente encerrar a conexão
+     */
+    public void write(EventResponse event) {
+        try {
+            if (format == DataFormat.NDJSON) {
+                jsonWriter.writeValue(writer, event);
+                writer.write('\n');
+            } else {
+                writeLine(toCsv(event));
+            }
+            if (++rows % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Descarrega o restante do buffer ao final da exportação.
+     */
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeLine(String line) {
+        try {
+            writer.write(line);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String toCsv(EventResponse event) {
+        return String.join(",",
+                String.valueOf(event.id()),
+                csvField(event.title()),
+                csvField(event.description()),
+                csvField(event.eventAt()),
+                csvField(event.location()),
+                csvField(event.createdAt()));
+    }
+
+    private static String csvField(LocalDateTime value) {
+        return value != null ? value.toString() : "";
+    }
+
+    /**
+     * Aplica o escape do RFC 4180 (aspas duplas) quando necessário.
+     */
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
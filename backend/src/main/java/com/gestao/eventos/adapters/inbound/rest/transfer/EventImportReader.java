@@ -0,0 +1,90 @@
+package com.gestao.eventos.adapters.inbound.rest.transfer;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gestao.eventos.application.dto.EventRequest;
+import com.gestao.eventos.application.dto.ImportRow;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Lê eventos de um arquivo NDJSON ou CSV sob demanda, uma linha por vez.
+ * Linhas com valores inválidos são entregues como não lidas (com o erro) e a leitura
+ * continua na linha seguinte; um erro de sintaxe encerra a leitura.
+ *
+ * O CSV deve ter cabeçalho com as colunas title, description, eventAt e location.
+ */
+public class EventImportReader implements Iterator<ImportRow> {
+
+    private static final ObjectReader CSV_READER = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build()
+            .readerFor(EventRequest.class)
+            .with(CsvSchema.emptySchema().withHeader());
+
+    private final MappingIterator<EventRequest> values;
+    private ImportRow next;
+    private boolean finished;
+
+    public EventImportReader(DataFormat format, InputStream input, ObjectMapper objectMapper) throws IOException {
+        ObjectReader reader = format == DataFormat.CSV ? CSV_READER : objectMapper.readerFor(EventRequest.class);
+        this.values = reader.readValues(input);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readNext();
+        }
+        return next != null;
+    }
+
+    @Override
+    public ImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    private ImportRow readNext() {
+        try {
+            if (!values.hasNextValue()) {
+                finished = true;
+                return null;
+            }
+        } catch (IOException e) {
+            finished = true;
+            return ImportRow.unreadable(currentLine(), "Arquivo malformado: " + e.getMessage());
+        }
+
+        long line = currentLine();
+        try {
+            return ImportRow.of(line, values.nextValue());
+        } catch (JsonMappingException e) {
+            // Valor inválido (ex.: data): o MappingIterator se ressincroniza na próxima linha
+            return ImportRow.unreadable(line, e.getOriginalMessage());
+        } catch (IOException e) {
+            finished = true;
+            return ImportRow.unreadable(line, "Arquivo malformado: " + e.getMessage());
+        }
+    }
+
+    private long currentLine() {
+        return values.getCurrentLocation().getLineNr();
+    }
+}
@@ -0,0 +1,49 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.repository.EventRepository;
+import com.gestao.eventos.domain.repository.ReactiveEventRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Implementação reativa padrão (sem o perfil r2dbc): delega ao adaptador JPA,
+ * executando as chamadas bloqueantes no scheduler boundedElastic para não
+ * bloquear a thread que assina o resultado.
+ */
+@Component
+@Profile("!r2dbc")
+public class BlockingReactiveEventRepository implements ReactiveEventRepository {
+    
+    private static final Sort EVENT_AT_ORDER = Sort.by("eventAt", "id");
+    
+    private final EventRepository eventRepository;
+    
+    public BlockingReactiveEventRepository(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+    
+    @Override
+    public Mono<Event> findById(Long id) {
+        return Mono.fromCallable(() -> eventRepository.findById(id).orElse(null))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+    
+    @Override
+    public Flux<Event> findPage(int page, int size) {
+        return Mono.fromCallable(() -> eventRepository.findAll(PageRequest.of(page, size, EVENT_AT_ORDER)).getContent())
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapIterable(events -> events);
+    }
+    
+    @Override
+    public Mono<Long> count() {
+        return Mono.fromCallable(eventRepository::count)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,217 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Expurgo dos eventos excluídos (soft delete) há mais tempo que a retenção configurada.
+ *
+ * As linhas são removidas em lotes pequenos, cada lote em sua própria transação e na
+ * ordem (updated_at, id) do índice idx_events_deleted_updated_at_id, com uma pausa entre
+ * os lotes: os locks duram um lote e o WAL é gerado aos poucos. Com o arquivamento
+ * ativo, cada linha removida é copiada para events_archive.deleted_events no mesmo comando.
+ * Linhas bloqueadas por outra transação são puladas e ficam para a próxima execução.
+ *
+ * Métricas: app.purge.rows (mode), app.purge.batch, app.purge.pending e app.purge.lag
+ * (atraso do expurgo: há quanto tempo a linha elegível mais antiga passou da retenção).
+ */
+@Component
+public class DeletedEventPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(DeletedEventPurger.class);
+
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final String PURGE_BATCH_SQL = """
+            WITH batch AS (
+                SELECT id, event_at FROM events
+                 WHERE deleted = true AND updated_at < ?
+                   AND (updated_at, id) > (?, ?)
+                 ORDER BY updated_at, id
+                 LIMIT ?
+                   FOR UPDATE SKIP LOCKED
+            ), purged AS (
+                DELETE FROM events e USING batch b
+                 WHERE e.id = b.id AND e.event_at = b.event_at
+             RETURNING e.id, e.title, e.description, e.event_at, e.location, e.created_at, e.updated_at
+            ), archived AS (
+                INSERT INTO events_archive.deleted_events
+                       (id, title, description, event_at, location, created_at, deleted_at)
+                SELECT id, title, description, event_at, location, created_at, updated_at
+                  FROM purged WHERE ?
+            )
+            SELECT (SELECT count(*) FROM purged) AS purged_rows, p.updated_at, p.id
+              FROM purged p
+             ORDER BY p.updated_at DESC, p.id DESC
+             LIMIT 1
+            """;
+
+    private static final String BACKLOG_SQL =
+            "SELECT count(*), min(updated_at) FROM events WHERE deleted = true AND updated_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration retention;
+    private final boolean archive;
+    private final int batchSize;
+    private final Duration pause;
+    private final Duration maxRunTime;
+    private final Counter purgedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public DeletedEventPurger(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.events.purge.enabled}") boolean enabled,
+                              @Value("${app.events.purge.retention}") Duration retention,
+                              @Value("${app.events.purge.archive}") boolean archive,
+                              @Value("${app.events.purge.batch-size}") int batchSize,
+                              @Value("${app.events.purge.pause}") Duration pause,
+                              @Value("${app.events.purge.max-run-time}") Duration maxRunTime) {
+        if (batchSize < 1 || retention.isNegative()) {
+            throw new IllegalArgumentException("app.events.purge: batch-size deve ser positivo e retention não negativa");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.retention = retention;
+        this.archive = archive;
+        this.batchSize = batchSize;
+        this.pause = pause;
+        this.maxRunTime = maxRunTime;
+
+        this.purgedCounter = Counter.builder("app.purge.rows")
+                .description("Eventos excluídos removidos da tabela events")
+                .tag("mode", archive ? "archived" : "deleted")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("app.purge.batch")
+                .description("Duração de cada lote do expurgo")
+                .register(meterRegistry);
+        Gauge.builder("app.purge.pending", pending, AtomicLong::get)
+                .description("Eventos excluídos além da retenção aguardando expurgo")
+                .register(meterRegistry);
+        TimeGauge.builder("app.purge.lag", lagSeconds, TimeUnit.SECONDS, AtomicLong::get)
+                .description("Tempo desde que o evento excluído mais antigo passou da retenção")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Execução periódica; a primeira ocorre um intervalo após a inicialização.
+     */
+    @Scheduled(fixedDelayString = "${app.events.purge.interval}", initialDelayString = "${app.events.purge.interval}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            PurgeResult result = purge();
+            if (result.rows() > 0) {
+                log.info("Expurgo de eventos excluídos: {} linhas em {} lotes; pendentes: {}",
+                        result.rows(), result.batches(), pending.get());
+            }
+        } catch (RuntimeException e) {
+            log.error("Falha no expurgo de eventos excluídos", e);
+        }
+    }
+
+    /**
+     * Remove os eventos excluídos antes do limite da retenção, até esgotá-los
+     * ou atingir o tempo máximo da execução, e atualiza as métricas de pendência.
+     *
+     * @return Linhas removidas e lotes executados
+     */
+    public PurgeResult purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        long deadline = System.nanoTime() + maxRunTime.toNanos();
+        LocalDateTime afterUpdatedAt = CURSOR_START;
+        long afterId = 0;
+        long rows = 0;
+        int batches = 0;
+
+        while (true) {
+            LocalDateTime cursorUpdatedAt = afterUpdatedAt;
+            long cursorId = afterId;
+            Batch batch = batchTimer.record(() ->
+                    transactionTemplate.execute(status -> purgeBatch(cutoff, cursorUpdatedAt, cursorId)));
+            if (batch == null) {
+                break;
+            }
+            batches++;
+            rows += batch.rows();
+            purgedCounter.increment(batch.rows());
+            afterUpdatedAt = batch.lastUpdatedAt();
+            afterId = batch.lastId();
+            if (batch.rows() < batchSize || System.nanoTime() >= deadline || !sleep()) {
+                break;
+            }
+        }
+
+        updateBacklog(cutoff);
+        return new PurgeResult(rows, batches);
+    }
+
+    /**
+     * Eventos aguardando expurgo na última execução.
+     */
+    public long getPending() {
+        return pending.get();
+    }
+
+    private Batch purgeBatch(LocalDateTime cutoff, LocalDateTime afterUpdatedAt, long afterId) {
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '2s'");
+        List<Batch> result = jdbcTemplate.query(PURGE_BATCH_SQL,
+                (rs, rowNum) -> new Batch(rs.getInt("purged_rows"),
+                        rs.getTimestamp("updated_at").toLocalDateTime(), rs.getLong("id")),
+                Timestamp.valueOf(cutoff), Timestamp.valueOf(afterUpdatedAt), afterId, batchSize, archive);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    private void updateBacklog(LocalDateTime cutoff) {
+        jdbcTemplate.query(BACKLOG_SQL, rs -> {
+            Timestamp oldest = rs.getTimestamp(2);
+            pending.set(rs.getLong(1));
+            lagSeconds.set(oldest == null ? 0 : Duration.between(oldest.toLocalDateTime(), cutoff).toSeconds());
+        }, Timestamp.valueOf(cutoff));
+    }
+
+    private boolean sleep() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Resultado de uma execução do expurgo.
+     */
+    public record PurgeResult(long rows, int batches) {}
+
+    /**
+     * Lote removido e cursor (updated_at, id) da última linha.
+     */
+    private record Batch(int rows, LocalDateTime lastUpdatedAt, long lastId) {}
+}
@@ -19,8 +19,14 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class EventEntity {
 
+    /**
+     * Quantidade de IDs reservada por chamada à sequência (deve coincidir com o INCREMENT BY).
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_id_seq")
+    @SequenceGenerator(name = "events_id_seq", sequenceName = "events_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -0,0 +1,51 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import com.gestao.eventos.domain.model.Event;
+
+/**
+ * Conversões entre Event (domínio) e EventEntity (infraestrutura).
+ * Sem dependências do contexto de persistência, para que possam ser testadas
+ * e medidas isoladamente (ver módulo benchmarks).
+ */
+public final class EventEntityMapper {
+    
+    private EventEntityMapper() {
+    }
+    
+    /**
+     * Cria uma nova EventEntity (sem ID) a partir de um evento novo.
+     */
+    public static EventEntity toNewEntity(Event event) {
+        EventEntity entity = new EventEntity();
+        copyInto(event, entity);
+        return entity;
+    }
+    
+    /**
+     * Copia os dados editáveis do evento para uma entidade existente,
+     * preservando ID e timestamps da entidade.
+     */
+    public static void copyInto(Event event, EventEntity entity) {
+        entity.setTitle(event.getTitle());
+        entity.setDescription(event.getDescription());
+        entity.setEventAt(event.getEventAt());
+        entity.setLocation(event.getLocation());
+        entity.setDeleted(Boolean.valueOf(event.isDeleted()));
+    }
+    
+    /**
+     * Converte EventEntity (infraestrutura) para Event (domínio).
+     */
+    public static Event toDomain(EventEntity entity) {
+        return Event.reconstruct(
+                entity.getId(),
+                entity.getTitle(),
+                entity.getDescription(),
+                entity.getEventAt(),
+                entity.getLocation(),
+                entity.getDeleted() != null && entity.getDeleted(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+    }
+}
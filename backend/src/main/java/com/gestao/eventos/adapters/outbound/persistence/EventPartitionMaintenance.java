@@ -0,0 +1,192 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Manutenção das partições mensais da tabela events (ver V8__partition_events_by_month.sql).
+ *
+ * Na inicialização e diariamente: cria as partições dos próximos meses, movendo para elas
+ * os eventos que já estavam na partição DEFAULT, e arquiva as partições de meses além da
+ * retenção. Uma partição arquivada é desanexada (DETACH) e movida para o schema
+ * events_archive: seus eventos deixam de aparecer na API, mas os dados são mantidos.
+ *
+ * Cada partição é tratada em sua própria transação, com um advisory lock para que
+ * várias instâncias da aplicação não executem a manutenção ao mesmo tempo.
+ */
+@Component
+public class EventPartitionMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(EventPartitionMaintenance.class);
+
+    private static final String PARTITION_PREFIX = "events_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("uuuu_MM");
+    private static final String ARCHIVE_SCHEMA = "events_archive";
+
+    private static final String LOCK_SQL = "SELECT pg_advisory_xact_lock(hashtext('events_partition_maintenance'))";
+
+    private static final String PARTITIONS_SQL = """
+            SELECT c.relname FROM pg_inherits i
+              JOIN pg_class c ON c.oid = i.inhrelid
+             WHERE i.inhparent = CAST('events' AS regclass)
+            """;
+
+    /**
+     * Colunas copiadas ao mover linhas da DEFAULT (search_vector é gerada).
+     */
+    private static final String COLUMNS = "id, title, description, event_at, location, deleted, created_at, updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public EventPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${app.events.partitions.maintenance.enabled}") boolean enabled,
+                                     @Value("${app.events.partitions.months-ahead}") int monthsAhead,
+                                     @Value("${app.events.partitions.retention-months}") int retentionMonths) {
+        if (monthsAhead < 0) {
+            throw new IllegalArgumentException("app.events.partitions.months-ahead não pode ser negativo");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * Executa a manutenção na inicialização e no horário configurado.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.events.partitions.maintenance.cron}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            YearMonth currentMonth = YearMonth.now();
+            List<String> created = createPartitions(currentMonth, monthsAhead + 1);
+            List<String> archived = retentionMonths > 0
+                    ? archivePartitionsBefore(currentMonth.minusMonths(retentionMonths))
+                    : List.of();
+            if (!created.isEmpty() || !archived.isEmpty()) {
+                log.info("Partições de events criadas: {}; arquivadas: {}", created, archived);
+            }
+        } catch (RuntimeException e) {
+            log.error("Falha na manutenção das partições de events", e);
+        }
+    }
+
+    /**
+     * Cria as partições que ainda não existem a partir de um mês.
+     *
+     * @param firstMonth Primeiro mês
+     * @param months Quantidade de meses
+     * @return Nomes das partições criadas
+     */
+    public List<String> createPartitions(YearMonth firstMonth, int months) {
+        List<String> created = new ArrayList<>();
+        for (int offset = 0; offset < months; offset++) {
+            YearMonth month = firstMonth.plusMonths(offset);
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> createPartition(month)))) {
+                created.add(partitionName(month));
+            }
+        }
+        return created;
+    }
+
+    /**
+     * Desanexa e move para o schema events_archive as partições de meses anteriores ao limite.
+     *
+     * @param cutoff Primeiro mês mantido na tabela events
+     * @return Nomes das partições arquivadas
+     */
+    public List<String> archivePartitionsBefore(YearMonth cutoff) {
+        List<String> archived = new ArrayList<>();
+        for (String partition : jdbcTemplate.queryForList(PARTITIONS_SQL, String.class)) {
+            YearMonth month = monthOf(partition);
+            if (month != null && month.isBefore(cutoff)) {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> archivePartition(partition)))) {
+                    archived.add(partition);
+                }
+            }
+        }
+        return archived;
+    }
+
+    private boolean createPartition(YearMonth month) {
+        lock();
+        String partition = partitionName(month);
+        if (jdbcTemplate.queryForList(PARTITIONS_SQL, String.class).contains(partition)) {
+            return false;
+        }
+        String from = month.atDay(1).toString();
+        String to = month.plusMonths(1).atDay(1).toString();
+
+        // A partição é montada como tabela avulsa e anexada ao final: o ATTACH bloqueia a
+        // tabela events apenas com SHARE UPDATE EXCLUSIVE, sem parar leituras e escritas
+        // (CREATE TABLE ... PARTITION OF e DETACH exigiriam ACCESS EXCLUSIVE). As linhas
+        // do mês que estavam na DEFAULT são movidas antes, pois o ATTACH as recusaria lá.
+        jdbcTemplate.execute("CREATE TABLE " + partition + " (LIKE events INCLUDING ALL)");
+        int moved = jdbcTemplate.update("INSERT INTO " + partition + " (" + COLUMNS + ") SELECT " + COLUMNS
+                        + " FROM events_default WHERE event_at >= CAST(? AS timestamp) AND event_at < CAST(? AS timestamp)",
+                from, to);
+        if (moved > 0) {
+            jdbcTemplate.update("DELETE FROM events_default WHERE event_at >= CAST(? AS timestamp) "
+                    + "AND event_at < CAST(? AS timestamp)", from, to);
+        }
+        jdbcTemplate.execute(String.format("ALTER TABLE events ATTACH PARTITION %s FOR VALUES FROM ('%s') TO ('%s')",
+                partition, from, to));
+        if (moved > 0) {
+            log.info("{} eventos movidos da partição DEFAULT para {}", moved, partition);
+        }
+        return true;
+    }
+
+    private boolean archivePartition(String partition) {
+        lock();
+        // A lista foi lida antes do lock: outra instância pode já ter arquivado a partição
+        if (!jdbcTemplate.queryForList(PARTITIONS_SQL, String.class).contains(partition)) {
+            return false;
+        }
+        jdbcTemplate.execute("ALTER TABLE events DETACH PARTITION " + partition);
+        jdbcTemplate.execute("ALTER TABLE " + partition + " SET SCHEMA " + ARCHIVE_SCHEMA);
+        return true;
+    }
+
+    /**
+     * Serializa a manutenção entre instâncias e limita a espera pelos locks da tabela,
+     * para não enfileirar as requisições atrás do DDL.
+     */
+    private void lock() {
+        jdbcTemplate.queryForObject(LOCK_SQL, Object.class);
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '5s'");
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    private static YearMonth monthOf(String partition) {
+        if (!partition.matches(PARTITION_PREFIX + "\\d{4}_\\d{2}")) {
+            return null;
+        }
+        return YearMonth.parse(partition.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX);
+    }
+}
@@ -1,12 +1,33 @@
 package com.gestao.eventos.adapters.outbound.persistence;
 
 import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.model.EventSummary;
+import com.gestao.eventos.domain.model.EventView;
 import com.gestao.eventos.domain.repository.EventRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Implementação do repositório de eventos.
@@ -15,10 +36,46 @@ import java.util.Optional;
 @Component
 public class EventRepositoryImpl implements EventRepository {
     
+    /**
+     * Atualização em um único round trip: aplica as alterações apenas em eventos
+     * não deletados e retorna a linha atualizada (sem SELECT prévio).
+     */
+    private static final String UPDATE_ACTIVE_SQL = """
+            UPDATE events
+               SET title = :title,
+                   description = :description,
+                   event_at = :eventAt,
+                   location = :location,
+                   updated_at = :updatedAt
+             WHERE id = :id
+               AND deleted = false
+            RETURNING id, title, description, event_at, location, deleted, created_at, updated_at
+            """;
+    
+    private static final RowMapper<Event> EVENT_ROW_MAPPER = (rs, rowNum) -> Event.reconstruct(
+            rs.getLong("id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            rs.getObject("event_at", LocalDateTime.class),
+            rs.getString("location"),
+            rs.getBoolean("deleted"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class)
+    );
+    
     private final SpringDataEventRepository springDataEventRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final PostgresCopyEventWriter copyEventWriter;
     
-    public EventRepositoryImpl(SpringDataEventRepository springDataEventRepository) {
+    public EventRepositoryImpl(SpringDataEventRepository springDataEventRepository,
+                               NamedParameterJdbcTemplate jdbcTemplate,
+                               EntityManager entityManager,
+                               PostgresCopyEventWriter copyEventWriter) {
         this.springDataEventRepository = springDataEventRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.copyEventWriter = copyEventWriter;
     }
     
     @Override
@@ -28,6 +85,50 @@ public class EventRepositoryImpl implements EventRepository {
         return toDomain(savedEntity);
     }
     
+    @Override
+    public List<Event> saveAll(List<Event> events) {
+        List<EventEntity> entities = events.stream()
+                .map(this::toEntity)
+                .toList();
+        return springDataEventRepository.saveAll(entities).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+    
+    @Override
+    public int bulkInsert(List<Event> events) {
+        if (copyEventWriter.isSupported()) {
+            return copyEventWriter.copy(events);
+        }
+        // Fallback para bancos sem COPY (ex.: H2): INSERTs em batch via Hibernate,
+        // limpando o contexto de persistência para não reter as entidades
+        List<EventEntity> entities = events.stream()
+                .map(this::toEntity)
+                .toList();
+        springDataEventRepository.saveAll(entities);
+        entityManager.flush();
+        entityManager.clear();
+        return entities.size();
+    }
+    
+    @Override
+    public Optional<Event> update(Long id, Event changes) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("title", changes.getTitle())
+                .addValue("description", changes.getDescription())
+                .addValue("eventAt", changes.getEventAt())
+                .addValue("location", changes.getLocation())
+                .addValue("updatedAt", LocalDateTime.now());
+        return jdbcTemplate.query(UPDATE_ACTIVE_SQL, params, EVENT_ROW_MAPPER).stream()
+                .findFirst();
+    }
+    
+    @Override
+    public boolean markAsDeleted(Long id) {
+        return springDataEventRepository.softDeleteById(id, LocalDateTime.now()) > 0;
+    }
+    
     @Override
     public Optional<Event> findById(Long id) {
         return springDataEventRepository.findByIdAndDeletedFalse(id)
@@ -40,9 +141,104 @@ public class EventRepositoryImpl implements EventRepository {
                 .map(this::toDomain);
     }
     
+    @Override
+    public Page<EventView> findAllViews(Pageable pageable) {
+        return springDataEventRepository.findViewsByDeletedFalse(pageable);
+    }
+    
+    @Override
+    public Page<EventSummary> findAllSummaries(Pageable pageable) {
+        return springDataEventRepository.findSummariesByDeletedFalse(pageable);
+    }
+    
+    @Override
+    public Page<Map<String, Object>> findAllFields(List<String> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        
+        // SELECT apenas das colunas solicitadas, como tupla (sem entidade gerenciada)
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<EventEntity> root = query.from(EventEntity.class);
+        query.multiselect(fields.stream()
+                .<Selection<?>>map(field -> root.get(field).alias(field))
+                .toList());
+        query.where(cb.isFalse(root.get("deleted")));
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        
+        List<Map<String, Object>> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList()
+                .stream()
+                .map(tuple -> toFieldMap(fields, tuple))
+                .toList();
+        
+        return PageableExecutionUtils.getPage(content, pageable, this::count);
+    }
+    
+    @Override
+    public Page<Event> findAllBetween(LocalDateTime from, LocalDateTime to, Pageable pageable) {
+        Specification<EventEntity> spec = Specification.where(EventSpecifications.notDeleted())
+                .and(EventSpecifications.eventAtFrom(from))
+                .and(EventSpecifications.eventAtBefore(to));
+        return springDataEventRepository.findAll(spec, pageable)
+                .map(this::toDomain);
+    }
+    
+    @Override
+    public Slice<Event> findAllSlice(Pageable pageable) {
+        return springDataEventRepository.findSliceByDeletedFalse(pageable)
+                .map(this::toDomain);
+    }
+    
+    @Override
+    public Page<Event> search(String query, int page, int size) {
+        return springDataEventRepository.searchByDeletedFalse(query, PageRequest.of(page, size))
+                .map(this::toDomain);
+    }
+    
+    @Override
+    public long count() {
+        return springDataEventRepository.countByDeletedFalse();
+    }
+    
+    @Override
+    public Optional<Long> estimateCount() {
+        Long estimate = springDataEventRepository.estimateLiveEvents();
+        return estimate != null && estimate >= 0 ? Optional.of(estimate) : Optional.empty();
+    }
+    
+    @Override
+    public List<Event> findNextPage(LocalDateTime afterEventAt, Long afterId, int limit) {
+        Pageable firstRows = PageRequest.of(0, limit);
+        List<EventEntity> entities = afterEventAt == null || afterId == null
+                ? springDataEventRepository.findFirstKeysetPage(firstRows)
+                : springDataEventRepository.findKeysetPageAfter(afterEventAt, afterId, firstRows);
+        return entities.stream()
+                .map(this::toDomain)
+                .toList();
+    }
+    
+    @Override
+    public Stream<Event> streamAll() {
+        // Desanexa cada entidade após a conversão para que o contexto de persistência
+        // não cresça com o tamanho da tabela
+        return springDataEventRepository.streamByDeletedFalse()
+                .map(entity -> {
+                    Event event = toDomain(entity);
+                    entityManager.detach(entity);
+                    return event;
+                });
+    }
+    
     @Override
     public boolean existsById(Long id) {
-        return springDataEventRepository.findByIdAndDeletedFalse(id).isPresent();
+        return springDataEventRepository.existsByIdAndDeletedFalse(id);
+    }
+    
+    private Map<String, Object> toFieldMap(List<String> fields, Tuple tuple) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        fields.forEach(field -> values.put(field, tuple.get(field)));
+        return values;
     }
     
     /**
@@ -51,41 +247,21 @@ public class EventRepositoryImpl implements EventRepository {
     private EventEntity toEntity(Event event) {
         if (event.getId() == null) {
             // Novo evento
-            EventEntity entity = new EventEntity();
-            entity.setTitle(event.getTitle());
-            entity.setDescription(event.getDescription());
-            entity.setEventAt(event.getEventAt());
-            entity.setLocation(event.getLocation());
-            entity.setDeleted(Boolean.valueOf(event.isDeleted()));
-            return entity;
-        } else {
-            // Evento existente - busca do banco para preservar timestamps
-            // Usa findById (sem filtro deleted) para permitir atualizar eventos deletados (restore)
-            EventEntity entity = springDataEventRepository.findById(event.getId())
-                    .orElseThrow(() -> new IllegalArgumentException("Evento não encontrado: " + event.getId()));
-            entity.setTitle(event.getTitle());
-            entity.setDescription(event.getDescription());
-            entity.setEventAt(event.getEventAt());
-            entity.setLocation(event.getLocation());
-            entity.setDeleted(Boolean.valueOf(event.isDeleted()));
-            return entity;
+            return EventEntityMapper.toNewEntity(event);
         }
+        // Evento existente - busca do banco para preservar timestamps
+        // Usa findById (sem filtro deleted) para permitir atualizar eventos deletados (restore)
+        EventEntity entity = springDataEventRepository.findById(event.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Evento não encontrado: " + event.getId()));
+        EventEntityMapper.copyInto(event, entity);
+        return entity;
     }
     
     /**
      * Converte EventEntity (infraestrutura) para Event (domínio).
      */
     private Event toDomain(EventEntity entity) {
-        return Event.reconstruct(
-                entity.getId(),
-                entity.getTitle(),
-                entity.getDescription(),
-                entity.getEventAt(),
-                entity.getLocation(),
-                entity.getDeleted() != null && entity.getDeleted(),
-                entity.getCreatedAt(),
-                entity.getUpdatedAt()
-        );
+        return EventEntityMapper.toDomain(entity);
     }
 }
 
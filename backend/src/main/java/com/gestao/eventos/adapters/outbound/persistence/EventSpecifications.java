@@ -0,0 +1,38 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Critérios de consulta de EventEntity para filtros opcionais.
+ * Cada filtro informado vira um predicado na cláusula WHERE; filtros ausentes
+ * não geram predicado (evita {@code :param IS NULL OR ...}, que impede o
+ * PostgreSQL de usar o índice).
+ */
+final class EventSpecifications {
+    
+    private EventSpecifications() {
+    }
+    
+    /**
+     * Eventos não deletados.
+     */
+    static Specification<EventEntity> notDeleted() {
+        return (root, query, cb) -> cb.isFalse(root.get("deleted"));
+    }
+    
+    /**
+     * Eventos com data igual ou posterior a {@code from} (ignorado se null).
+     */
+    static Specification<EventEntity> eventAtFrom(LocalDateTime from) {
+        return from == null ? null : (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("eventAt"), from);
+    }
+    
+    /**
+     * Eventos com data anterior a {@code to}, exclusivo (ignorado se null).
+     */
+    static Specification<EventEntity> eventAtBefore(LocalDateTime to) {
+        return to == null ? null : (root, query, cb) -> cb.lessThan(root.get("eventAt"), to);
+    }
+}
@@ -0,0 +1,123 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import com.gestao.eventos.domain.model.Event;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Inserção em massa de eventos via COPY ... FROM STDIN (CopyManager do PgJDBC).
+ * Os IDs são reservados na sequência em blocos de {@link EventEntity#ID_ALLOCATION_SIZE},
+ * seguindo a mesma convenção do otimizador pooled do Hibernate.
+ */
+@Component
+public class PostgresCopyEventWriter {
+
+    private static final String COPY_SQL = "COPY events (id, title, description, event_at, location, "
+            + "deleted, created_at, updated_at) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String ALLOCATE_IDS_SQL =
+            "SELECT nextval('events_id_seq') FROM generate_series(1, ?)";
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean supported;
+
+    public PostgresCopyEventWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Indica se o banco atual é PostgreSQL (COPY disponível).
+     */
+    public boolean isSupported() {
+        if (supported == null) {
+            supported = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    connection.isWrapperFor(PGConnection.class));
+        }
+        return supported;
+    }
+
+    /**
+     * Insere os eventos com um único COPY, na conexão da transação corrente.
+     *
+     * @param events Novos eventos (sem ID)
+     * @return Quantidade de linhas inseridas
+     */
+    public int copy(List<Event> events) {
+        if (events.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = allocateIds(events.size());
+        String csv = toCsv(events, ids);
+
+        Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            try {
+                return copyManager.copyIn(COPY_SQL, new StringReader(csv));
+            } catch (IOException e) {
+                throw new DataAccessResourceFailureException("Falha ao enviar dados do COPY", e);
+            } catch (SQLException e) {
+                throw new UncategorizedSQLException("COPY events", COPY_SQL, e);
+            }
+        });
+        return rows != null ? rows.intValue() : 0;
+    }
+
+    /**
+     * Cada nextval reserva o bloco (valor - ID_ALLOCATION_SIZE + 1 .. valor).
+     */
+    private List<Long> allocateIds(int count) {
+        int blocks = (count + EventEntity.ID_ALLOCATION_SIZE - 1) / EventEntity.ID_ALLOCATION_SIZE;
+        List<Long> blockEnds = jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, blocks);
+
+        List<Long> ids = new ArrayList<>(count);
+        for (Long blockEnd : blockEnds) {
+            for (long id = blockEnd - EventEntity.ID_ALLOCATION_SIZE + 1; id <= blockEnd && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    private static String toCsv(List<Event> events, List<Long> ids) {
+        StringBuilder csv = new StringBuilder(events.size() * 256);
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            csv.append(ids.get(i)).append(',')
+                    .append(csvText(event.getTitle())).append(',')
+                    .append(csvText(event.getDescription())).append(',')
+                    .append(csvTimestamp(event.getEventAt())).append(',')
+                    .append(csvText(event.getLocation())).append(',')
+                    .append(event.isDeleted()).append(',')
+                    .append(csvTimestamp(event.getCreatedAt())).append(',')
+                    .append(csvTimestamp(event.getUpdatedAt())).append('\n');
+        }
+        return csv.toString();
+    }
+
+    /**
+     * No formato CSV do COPY, campo vazio sem aspas é NULL; textos são sempre entre aspas.
+     */
+    private static String csvText(String value) {
+        return value == null ? "" : '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String csvTimestamp(LocalDateTime value) {
+        return value == null ? "" : TIMESTAMP_FORMAT.format(value);
+    }
+}
@@ -0,0 +1,72 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.repository.ReactiveEventRepository;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Implementação reativa do repositório de eventos via R2DBC (perfil r2dbc).
+ * Executa o SQL diretamente com DatabaseClient, usando os mesmos índices
+ * das consultas JPA (chave primária e idx_events_live_event_at_id).
+ */
+@Component
+@Profile("r2dbc")
+public class R2dbcEventRepository implements ReactiveEventRepository {
+    
+    private static final String SELECT_EVENTS =
+            "SELECT id, title, description, event_at, location, deleted, created_at, updated_at FROM events ";
+    
+    private final DatabaseClient databaseClient;
+    
+    public R2dbcEventRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+    
+    @Override
+    public Mono<Event> findById(Long id) {
+        return databaseClient.sql(SELECT_EVENTS + "WHERE id = :id AND deleted = false")
+                .bind("id", id)
+                .map(this::toDomain)
+                .one();
+    }
+    
+    @Override
+    public Flux<Event> findPage(int page, int size) {
+        return databaseClient.sql(SELECT_EVENTS + "WHERE deleted = false ORDER BY event_at ASC, id ASC "
+                        + "LIMIT :limit OFFSET :offset")
+                .bind("limit", size)
+                .bind("offset", (long) page * size)
+                .map(this::toDomain)
+                .all();
+    }
+    
+    @Override
+    public Mono<Long> count() {
+        return databaseClient.sql("SELECT count(*) FROM events WHERE deleted = false")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+    
+    /**
+     * Converte uma linha da tabela events para Event (domínio).
+     */
+    private Event toDomain(Readable row) {
+        return Event.reconstruct(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("description", String.class),
+                row.get("event_at", LocalDateTime.class),
+                row.get("location", String.class),
+                Boolean.TRUE.equals(row.get("deleted", Boolean.class)),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class)
+        );
+    }
+}
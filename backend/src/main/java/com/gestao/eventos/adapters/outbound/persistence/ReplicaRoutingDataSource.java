@@ -0,0 +1,128 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource que envia transações somente leitura para réplicas (round-robin)
+ * e todo o resto para o primário.
+ *
+ * Réplicas que falham ao entregar uma conexão, ou que não passam na verificação
+ * periódica ({@link #checkReplicas}), são retiradas do rodízio até voltarem a passar.
+ * Sem réplica saudável, as leituras vão para o primário. A thread pode ser fixada
+ * no primário ({@link #pinToPrimary}) para ler as próprias escritas.
+ *
+ * Deve ficar atrás de um LazyConnectionDataSourceProxy: com JPA, a conexão é
+ * obtida antes de a transação ser marcada como somente leitura.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    /**
+     * Atraso de replicação em segundos (0 no primário ou com a réplica em dia).
+     */
+    private static final String REPLICATION_LAG_SQL = "SELECT CASE "
+            + "WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+    }
+
+    /**
+     * Fixa (ou libera) a thread atual no primário, inclusive para leituras.
+     */
+    public static void pinToPrimary(boolean pinned) {
+        if (pinned) {
+            PINNED_TO_PRIMARY.set(Boolean.TRUE);
+        } else {
+            PINNED_TO_PRIMARY.remove();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!routeToReplica()) {
+            return primary.getConnection();
+        }
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                replica.healthy = false;
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credenciais são definidas por pool");
+    }
+
+    /**
+     * Verifica cada réplica (conexão válida e atraso de replicação dentro do limite),
+     * retirando ou devolvendo-a ao rodízio.
+     *
+     * @param maxLag Atraso máximo aceito
+     */
+    public void checkReplicas(Duration maxLag) {
+        for (Replica replica : replicas) {
+            replica.healthy = isHealthy(replica.dataSource, maxLag);
+        }
+    }
+
+    /**
+     * Quantidade de réplicas no rodízio.
+     */
+    public int getHealthyReplicas() {
+        return (int) replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    private static boolean routeToReplica() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && PINNED_TO_PRIMARY.get() == null;
+    }
+
+    private static boolean isHealthy(DataSource dataSource, Duration maxLag) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(5);
+            try (ResultSet resultSet = statement.executeQuery(REPLICATION_LAG_SQL)) {
+                return resultSet.next() && resultSet.getDouble(1) * 1000 <= maxLag.toMillis();
+            }
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
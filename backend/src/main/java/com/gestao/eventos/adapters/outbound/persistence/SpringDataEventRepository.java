@@ -1,17 +1,31 @@
 package com.gestao.eventos.adapters.outbound.persistence;
 
+import com.gestao.eventos.domain.model.EventSummary;
+import com.gestao.eventos.domain.model.EventView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repositório Spring Data JPA para EventEntity.
+ * Consultas com filtros opcionais usam {@link EventSpecifications}.
  */
 @Repository
-public interface SpringDataEventRepository extends JpaRepository<EventEntity, Long> {
+public interface SpringDataEventRepository extends JpaRepository<EventEntity, Long>, JpaSpecificationExecutor<EventEntity> {
     
     /**
      * Busca eventos não deletados com paginação.
@@ -21,6 +35,90 @@ public interface SpringDataEventRepository extends JpaRepository<EventEntity, Lo
      */
     Page<EventEntity> findByDeletedFalse(Pageable pageable);
     
+    /**
+     * Lista eventos não deletados projetando cada linha diretamente em EventView
+     * (constructor expression): sem entidades gerenciadas no contexto de persistência.
+     * 
+     * @param pageable Configuração de paginação
+     * @return Página de eventos não deletados
+     */
+    @Query(value = "SELECT new com.gestao.eventos.domain.model.EventView("
+            + "e.id, e.title, e.description, e.eventAt, e.location, e.createdAt) "
+            + "FROM EventEntity e WHERE e.deleted = false",
+            countQuery = "SELECT count(e) FROM EventEntity e WHERE e.deleted = false")
+    Page<EventView> findViewsByDeletedFalse(Pageable pageable);
+    
+    /**
+     * Lista eventos não deletados no formato resumido (EventSummary): a descrição é
+     * truncada no SELECT, de modo que a coluna completa não é lida para a resposta.
+     * 
+     * @param pageable Configuração de paginação
+     * @return Página de resumos de eventos não deletados
+     */
+    @Query(value = "SELECT new com.gestao.eventos.domain.model.EventSummary("
+            + "e.id, e.title, e.eventAt, e.location, "
+            + "SUBSTRING(e.description, 1, " + EventSummary.DESCRIPTION_EXCERPT_LENGTH + ")) "
+            + "FROM EventEntity e WHERE e.deleted = false",
+            countQuery = "SELECT count(e) FROM EventEntity e WHERE e.deleted = false")
+    Page<EventSummary> findSummariesByDeletedFalse(Pageable pageable);
+    
+    /**
+     * Busca eventos não deletados sem executar a consulta de contagem.
+     * 
+     * @param pageable Configuração de paginação
+     * @return Slice de eventos não deletados
+     */
+    Slice<EventEntity> findSliceByDeletedFalse(Pageable pageable);
+    
+    /**
+     * Busca textual em eventos não deletados (title, description e location),
+     * ordenada por relevância. Usa a coluna search_vector e o índice GIN parcial
+     * idx_events_live_search_vector. A consulta aceita a sintaxe de busca web
+     * (termos, "frase exata", OR e -exclusão).
+     * 
+     * @param query Texto da busca
+     * @param pageable Página e tamanho (deve ser não ordenado; a ordem é pela relevância)
+     * @return Página de eventos encontrados
+     */
+    @Query(value = """
+            SELECT e.* FROM events e, websearch_to_tsquery('portuguese', :query) q
+             WHERE e.deleted = false
+               AND e.search_vector @@ q
+             ORDER BY ts_rank(e.search_vector, q) DESC, e.event_at ASC, e.id ASC
+            """,
+            countQuery = """
+            SELECT count(*) FROM events e
+             WHERE e.deleted = false
+               AND e.search_vector @@ websearch_to_tsquery('portuguese', :query)
+            """,
+            nativeQuery = true)
+    Page<EventEntity> searchByDeletedFalse(@Param("query") String query, Pageable pageable);
+    
+    /**
+     * Conta os eventos não deletados.
+     * 
+     * @return Quantidade de eventos não deletados
+     */
+    long countByDeletedFalse();
+    
+    /**
+     * Estimativa da quantidade de eventos não deletados a partir das estatísticas
+     * do índice parcial idx_events_live_event_at_id (que contém apenas linhas não deletadas).
+     * Como a tabela é particionada, soma as estatísticas do índice em cada partição,
+     * ignorando as partições ainda não analisadas (VACUUM/ANALYZE).
+     * Retorna -1 enquanto nenhuma partição foi analisada.
+     * 
+     * @return Quantidade estimada de eventos não deletados
+     */
+    @Query(value = """
+            SELECT COALESCE(CAST(SUM(c.reltuples) FILTER (WHERE c.reltuples >= 0) AS BIGINT), -1)
+              FROM pg_inherits i
+              JOIN pg_class c ON c.oid = i.inhrelid
+             WHERE i.inhparent = CAST('idx_events_live_event_at_id' AS regclass)
+            """,
+            nativeQuery = true)
+    Long estimateLiveEvents();
+    
     /**
      * Busca um evento por ID que não esteja deletado.
      * 
@@ -28,5 +126,65 @@ public interface SpringDataEventRepository extends JpaRepository<EventEntity, Lo
      * @return Optional com o evento se encontrado e não deletado
      */
     Optional<EventEntity> findByIdAndDeletedFalse(Long id);
+    
+    /**
+     * Verifica se existe evento não deletado com o ID, sem carregar a linha.
+     * 
+     * @param id ID do evento
+     * @return true se o evento existe e não está deletado
+     */
+    boolean existsByIdAndDeletedFalse(Long id);
+    
+    /**
+     * Percorre os eventos não deletados com um cursor do banco.
+     * O fetch size limita quantas linhas o driver mantém em memória por vez
+     * (no PostgreSQL, requer transação ativa).
+     * 
+     * @return Stream de eventos não deletados ordenados por (eventAt, id)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT e FROM EventEntity e WHERE e.deleted = false ORDER BY e.eventAt ASC, e.id ASC")
+    Stream<EventEntity> streamByDeletedFalse();
+    
+    /**
+     * Marca um evento não deletado como deletado (soft delete) com um único UPDATE.
+     * 
+     * @param id ID do evento
+     * @param updatedAt Data e hora da alteração
+     * @return Quantidade de linhas alteradas (0 se não existe ou já estava deletado)
+     */
+    @Modifying
+    @Query("UPDATE EventEntity e SET e.deleted = true, e.updatedAt = :updatedAt WHERE e.id = :id AND e.deleted = false")
+    int softDeleteById(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * Primeira página da paginação keyset, ordenada por (eventAt, id).
+     * 
+     * @param pageable Limite de registros (deve ser não ordenado)
+     * @return Eventos não deletados
+     */
+    @Query("SELECT e FROM EventEntity e WHERE e.deleted = false ORDER BY e.eventAt ASC, e.id ASC")
+    List<EventEntity> findFirstKeysetPage(Pageable pageable);
+    
+    /**
+     * Página seguinte ao cursor (eventAt, id) na paginação keyset.
+     * O predicado redundante {@code eventAt >= :eventAt} delimita o range scan
+     * no índice idx_events_live_event_at_id.
+     * 
+     * @param eventAt Data do último evento da página anterior
+     * @param id ID do último evento da página anterior
+     * @param pageable Limite de registros (deve ser não ordenado)
+     * @return Eventos não deletados posteriores ao cursor
+     */
+    @Query("SELECT e FROM EventEntity e WHERE e.deleted = false "
+            + "AND e.eventAt >= :eventAt AND (e.eventAt > :eventAt OR e.id > :id) "
+            + "ORDER BY e.eventAt ASC, e.id ASC")
+    List<EventEntity> findKeysetPageAfter(
+            @Param("eventAt") LocalDateTime eventAt,
+            @Param("id") Long id,
+            Pageable pageable);
 }
 
@@ -0,0 +1,69 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import java.time.Duration;
+
+/**
+ * Contador de statements SQL por thread, alimentado pelo {@link StatementCountingDataSource}.
+ * Uma requisição (ou um teste) abre o escopo com {@link #start()}, executa o trabalho
+ * e lê o total com {@link #stop()}. Fora de um escopo, as execuções não são contadas.
+ */
+public final class SqlStatementCounter {
+    
+    private static final ThreadLocal<Stats> CURRENT = new ThreadLocal<>();
+    
+    private SqlStatementCounter() {
+    }
+    
+    /**
+     * Inicia um escopo de contagem na thread atual, substituindo um escopo anterior.
+     */
+    public static Stats start() {
+        Stats stats = new Stats();
+        CURRENT.set(stats);
+        return stats;
+    }
+    
+    /**
+     * Encerra o escopo da thread atual.
+     * 
+     * @return Totais do escopo, ou null se nenhum escopo estava aberto
+     */
+    public static Stats stop() {
+        Stats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+    
+    /**
+     * Totais do escopo aberto na thread atual, ou null.
+     */
+    public static Stats current() {
+        return CURRENT.get();
+    }
+    
+    static void record(long elapsedNanos) {
+        Stats stats = CURRENT.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.elapsedNanos += elapsedNanos;
+        }
+    }
+    
+    /**
+     * Quantidade de statements executados e tempo total gasto no banco em um escopo.
+     * Acessado apenas pela thread dona do escopo.
+     */
+    public static final class Stats {
+        
+        private int statements;
+        private long elapsedNanos;
+        
+        public int getStatements() {
+            return statements;
+        }
+        
+        public Duration getElapsed() {
+            return Duration.ofNanos(elapsedNanos);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.gestao.eventos.application;
+
+import com.gestao.eventos.application.dto.BatchCreateResponse;
+import com.gestao.eventos.application.dto.EventRequest;
+
+import java.util.List;
+
+/**
+ * Caso de uso para criação de eventos em lote.
+ */
+public interface CreateEventsBatchUseCase {
+    
+    /**
+     * Valida cada item individualmente e cria os eventos válidos em lote.
+     * Itens inválidos não impedem a criação dos demais.
+     * 
+     * @param requests DTOs com os dados dos eventos
+     * @return Relatório com os eventos criados e os erros por item
+     * @throws IllegalArgumentException se o lote estiver vazio ou exceder o tamanho máximo
+     */
+    BatchCreateResponse createAll(List<EventRequest> requests);
+}
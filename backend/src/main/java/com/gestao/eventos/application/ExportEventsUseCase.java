@@ -0,0 +1,19 @@
+package com.gestao.eventos.application;
+
+import com.gestao.eventos.application.dto.EventResponse;
+
+import java.util.function.Consumer;
+
+/**
+ * Caso de uso para exportar todos os eventos.
+ */
+public interface ExportEventsUseCase {
+    
+    /**
+     * Percorre todos os eventos não deletados, entregando-os um a um ao consumidor
+     * à medida que são lidos do banco.
+     * 
+     * @param consumer Consumidor que recebe cada evento (ex.: escrita na resposta HTTP)
+     */
+    void export(Consumer<EventResponse> consumer);
+}
@@ -0,0 +1,21 @@
+package com.gestao.eventos.application;
+
+import com.gestao.eventos.application.dto.ImportReport;
+import com.gestao.eventos.application.dto.ImportRow;
+
+import java.util.Iterator;
+
+/**
+ * Caso de uso para importação em massa de eventos.
+ */
+public interface ImportEventsUseCase {
+    
+    /**
+     * Valida as linhas à medida que são lidas e insere as válidas em blocos.
+     * Linhas inválidas são rejeitadas sem interromper a importação.
+     * 
+     * @param rows Linhas lidas do arquivo de origem (consumidas sob demanda)
+     * @return Relatório com a quantidade importada e as linhas rejeitadas
+     */
+    ImportReport importEvents(Iterator<ImportRow> rows);
+}
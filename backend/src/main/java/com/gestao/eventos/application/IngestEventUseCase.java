@@ -0,0 +1,30 @@
+package com.gestao.eventos.application;
+
+import com.gestao.eventos.application.dto.EventRequest;
+import com.gestao.eventos.application.dto.IngestionStatusResponse;
+
+/**
+ * Caso de uso para criação assíncrona de eventos (ingestão em segundo plano).
+ * O evento é validado e enfileirado; a gravação acontece depois, em lotes.
+ */
+public interface IngestEventUseCase {
+    
+    /**
+     * Valida os dados no domínio e enfileira o evento para gravação.
+     * 
+     * @param request DTO com os dados do evento
+     * @return Status inicial (QUEUED) com o ID de acompanhamento
+     * @throws IllegalArgumentException se os dados forem inválidos
+     * @throws IngestionQueueFullException se a fila estiver cheia
+     */
+    IngestionStatusResponse submit(EventRequest request);
+    
+    /**
+     * Consulta o status de um evento enfileirado.
+     * 
+     * @param trackingId ID de acompanhamento retornado por submit
+     * @return Status atual da ingestão
+     * @throws IllegalArgumentException se o ID for desconhecido ou tiver expirado
+     */
+    IngestionStatusResponse getStatus(String trackingId);
+}
@@ -0,0 +1,12 @@
+package com.gestao.eventos.application;
+
+/**
+ * Lançada quando a fila de ingestão não aceita novos eventos
+ * (capacidade esgotada ou aplicação encerrando). O cliente deve tentar novamente.
+ */
+public class IngestionQueueFullException extends RuntimeException {
+    
+    public IngestionQueueFullException(String message) {
+        super(message);
+    }
+}
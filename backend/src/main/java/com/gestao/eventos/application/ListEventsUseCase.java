@@ -1,9 +1,16 @@
 package com.gestao.eventos.application;
 
+import com.gestao.eventos.application.dto.CursorPage;
 import com.gestao.eventos.application.dto.EventResponse;
+import com.gestao.eventos.application.dto.EventSummaryResponse;
+import com.gestao.eventos.application.dto.SliceResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Caso de uso para listar eventos com paginação.
  */
@@ -16,5 +23,57 @@ public interface ListEventsUseCase {
      * @return Página de eventos
      */
     Page<EventResponse> list(Pageable pageable);
+    
+    /**
+     * Lista eventos com paginação no formato resumido (descrição truncada).
+     * 
+     * @param pageable Configuração de paginação
+     * @return Página de resumos de eventos
+     */
+    Page<EventSummaryResponse> listSummaries(Pageable pageable);
+    
+    /**
+     * Lista eventos com paginação retornando apenas os campos informados,
+     * que também são os únicos lidos do banco.
+     * 
+     * @param fields Campos desejados (id, title, description, eventAt, location, createdAt)
+     * @param pageable Configuração de paginação
+     * @return Página de eventos, cada um como mapa campo -> valor (o id é sempre incluído)
+     * @throws IllegalArgumentException se algum campo for desconhecido
+     */
+    Page<Map<String, Object>> listFields(List<String> fields, Pageable pageable);
+    
+    /**
+     * Lista eventos de um período com paginação.
+     * 
+     * @param from Início do período, inclusivo (null para sem limite inicial)
+     * @param to Fim do período, exclusivo (null para sem limite final)
+     * @param upcoming Se true, apenas eventos a partir de agora, ordenados pela data mais próxima
+     *                 (a ordenação do pageable é ignorada)
+     * @param pageable Configuração de paginação
+     * @return Página de eventos
+     * @throws IllegalArgumentException se o início do período não for anterior ao fim
+     */
+    Page<EventResponse> list(LocalDateTime from, LocalDateTime to, boolean upcoming, Pageable pageable);
+    
+    /**
+     * Lista eventos com paginação sem contagem exata (não executa count(*)).
+     * 
+     * @param pageable Configuração de paginação
+     * @param estimateTotal Se true, inclui um total aproximado obtido das estatísticas do banco
+     * @return Slice de eventos
+     */
+    SliceResponse<EventResponse> listSlice(Pageable pageable, boolean estimateTotal);
+    
+    /**
+     * Lista eventos com paginação por cursor (keyset), ordenados por data do evento.
+     * O custo de cada página independe da sua profundidade.
+     * 
+     * @param after Cursor opaco retornado pela página anterior (null para a primeira página)
+     * @param size Tamanho da página
+     * @return Página de eventos com o cursor da próxima página
+     * @throws IllegalArgumentException se o cursor ou o tamanho forem inválidos
+     */
+    CursorPage<EventResponse> listAfter(String after, int size);
 }
 
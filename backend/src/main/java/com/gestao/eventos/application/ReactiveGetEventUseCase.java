@@ -0,0 +1,19 @@
+package com.gestao.eventos.application;
+
+import com.gestao.eventos.application.dto.EventResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso reativo para buscar um evento por ID.
+ * Variante não bloqueante de GetEventUseCase.
+ */
+public interface ReactiveGetEventUseCase {
+    
+    /**
+     * Busca um evento pelo ID.
+     * 
+     * @param id ID do evento
+     * @return Mono com os dados do evento; erro IllegalArgumentException se não encontrado
+     */
+    Mono<EventResponse> getById(Long id);
+}
@@ -0,0 +1,21 @@
+package com.gestao.eventos.application;
+
+import com.gestao.eventos.application.dto.EventResponse;
+import org.springframework.data.domain.Page;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caso de uso reativo para listar eventos com paginação.
+ * Variante não bloqueante de ListEventsUseCase, ordenada por (eventAt, id).
+ */
+public interface ReactiveListEventsUseCase {
+    
+    /**
+     * Lista eventos com paginação.
+     * 
+     * @param page Número da página (base 0)
+     * @param size Tamanho da página
+     * @return Mono com a página de eventos; erro IllegalArgumentException se page/size forem inválidos
+     */
+    Mono<Page<EventResponse>> list(int page, int size);
+}
@@ -0,0 +1,21 @@
+package com.gestao.eventos.application;
+
+import com.gestao.eventos.application.dto.EventResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Caso de uso para busca textual de eventos.
+ */
+public interface SearchEventsUseCase {
+    
+    /**
+     * Busca eventos pelo título, descrição e local, ordenados por relevância.
+     * 
+     * @param query Texto da busca
+     * @param pageable Configuração de paginação (page, size); a ordenação é sempre por relevância
+     * @return Página de eventos encontrados
+     * @throws IllegalArgumentException se o texto da busca for vazio ou longo demais
+     */
+    Page<EventResponse> search(String query, Pageable pageable);
+}
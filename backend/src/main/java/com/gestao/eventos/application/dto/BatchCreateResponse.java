@@ -0,0 +1,28 @@
+package com.gestao.eventos.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO de resposta para criação de eventos em lote.
+ *
+ * @param received Quantidade de itens recebidos
+ * @param created Eventos criados, na ordem dos itens válidos
+ * @param errors Erros de validação por item
+ */
+public record BatchCreateResponse(
+        int received,
+        List<EventResponse> created,
+        List<ItemError> errors
+) {
+
+    /**
+     * Erro de validação de um item do lote.
+     *
+     * @param index Posição do item no lote (começa em 0)
+     * @param message Mensagem de erro
+     */
+    public record ItemError(
+            int index,
+            String message
+    ) {}
+}
@@ -0,0 +1,16 @@
+package com.gestao.eventos.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO de resposta para paginação por cursor (keyset).
+ *
+ * @param content Itens da página
+ * @param nextCursor Cursor opaco para buscar a próxima página (null se não houver)
+ * @param hasNext Indica se existe próxima página
+ */
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {}
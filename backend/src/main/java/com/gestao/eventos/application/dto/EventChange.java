@@ -0,0 +1,34 @@
+package com.gestao.eventos.application.dto;
+
+/**
+ * Alteração de um evento publicada pelos serviços de escrita
+ * e repassada aos clientes de GET /api/events/stream após o commit.
+ *
+ * @param type Tipo da alteração
+ * @param eventId ID do evento alterado
+ * @param event Dados do evento após a alteração (ausente na exclusão)
+ */
+public record EventChange(
+        Type type,
+        Long eventId,
+        EventResponse event
+) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static EventChange created(EventResponse event) {
+        return new EventChange(Type.CREATED, event.id(), event);
+    }
+
+    public static EventChange updated(EventResponse event) {
+        return new EventChange(Type.UPDATED, event.id(), event);
+    }
+
+    public static EventChange deleted(Long eventId) {
+        return new EventChange(Type.DELETED, eventId, null);
+    }
+}
@@ -0,0 +1,49 @@
+package com.gestao.eventos.application.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Cursor de paginação keyset baseado na chave de ordenação (eventAt, id).
+ * É exposto ao cliente como um token opaco em Base64 URL-safe.
+ */
+public record EventCursor(LocalDateTime eventAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Codifica o cursor como token opaco.
+     *
+     * @return Token em Base64 URL-safe
+     */
+    public String encode() {
+        String raw = eventAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um token opaco recebido do cliente.
+     *
+     * @param token Token gerado por {@link #encode()}
+     * @return Cursor decodificado
+     * @throws IllegalArgumentException se o token for inválido
+     */
+    public static EventCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Cursor inválido: " + token);
+            }
+            return new EventCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + token);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.gestao.eventos.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de resposta resumida para listagem de eventos (?view=summary).
+ *
+ * @param descriptionExcerpt Início da descrição (até 150 caracteres), ou null se não houver
+ */
+public record EventSummaryResponse(
+        Long id,
+        String title,
+        LocalDateTime eventAt,
+        String location,
+        String descriptionExcerpt
+) {}
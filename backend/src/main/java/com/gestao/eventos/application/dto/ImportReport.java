@@ -0,0 +1,32 @@
+package com.gestao.eventos.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO de resposta da importação em massa de eventos.
+ *
+ * @param rowsRead Quantidade de linhas lidas
+ * @param imported Quantidade de eventos importados
+ * @param rejected Quantidade de linhas rejeitadas
+ * @param rejectedRows Linhas rejeitadas com o motivo (limitado às primeiras ocorrências)
+ * @param rejectedRowsTruncated Indica se a lista de linhas rejeitadas foi truncada
+ */
+public record ImportReport(
+        long rowsRead,
+        long imported,
+        long rejected,
+        List<RejectedRow> rejectedRows,
+        boolean rejectedRowsTruncated
+) {
+
+    /**
+     * Linha rejeitada na importação.
+     *
+     * @param line Número da linha no arquivo de origem
+     * @param message Motivo da rejeição
+     */
+    public record RejectedRow(
+            long line,
+            String message
+    ) {}
+}
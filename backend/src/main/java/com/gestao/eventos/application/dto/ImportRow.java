@@ -0,0 +1,23 @@
+package com.gestao.eventos.application.dto;
+
+/**
+ * Linha lida de um arquivo de importação.
+ *
+ * @param line Número da linha no arquivo de origem
+ * @param request Dados do evento (null se a linha não pôde ser lida)
+ * @param error Erro de leitura da linha (null se lida com sucesso)
+ */
+public record ImportRow(
+        long line,
+        EventRequest request,
+        String error
+) {
+
+    public static ImportRow of(long line, EventRequest request) {
+        return new ImportRow(line, request, null);
+    }
+
+    public static ImportRow unreadable(long line, String error) {
+        return new ImportRow(line, null, error);
+    }
+}
@@ -0,0 +1,44 @@
+package com.gestao.eventos.application.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de resposta com o status de um evento enviado para ingestão assíncrona.
+ *
+ * @param trackingId ID de acompanhamento
+ * @param status Situação atual
+ * @param eventId ID do evento criado (null até a gravação)
+ * @param error Motivo da falha (null se não falhou)
+ * @param acceptedAt Momento em que o evento foi enfileirado
+ * @param completedAt Momento da gravação ou da falha (null enquanto na fila)
+ */
+public record IngestionStatusResponse(
+        String trackingId,
+        Status status,
+        Long eventId,
+        String error,
+        LocalDateTime acceptedAt,
+        LocalDateTime completedAt
+) {
+    
+    /**
+     * Situação de um evento na ingestão.
+     */
+    public enum Status {
+        QUEUED,
+        CREATED,
+        FAILED
+    }
+    
+    public static IngestionStatusResponse queued(String trackingId, LocalDateTime acceptedAt) {
+        return new IngestionStatusResponse(trackingId, Status.QUEUED, null, null, acceptedAt, null);
+    }
+    
+    public IngestionStatusResponse created(Long eventId) {
+        return new IngestionStatusResponse(trackingId, Status.CREATED, eventId, null, acceptedAt, LocalDateTime.now());
+    }
+    
+    public IngestionStatusResponse failed(String error) {
+        return new IngestionStatusResponse(trackingId, Status.FAILED, null, error, acceptedAt, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,33 @@
+package com.gestao.eventos.application.dto;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * DTO de resposta para listagem paginada com contagem exata.
+ * Substitui a serialização de PageImpl, que repete pageable, sort,
+ * first/last/empty e numberOfElements em toda resposta.
+ *
+ * @param content Itens da página
+ * @param page Número da página (começa em 0)
+ * @param size Tamanho da página
+ * @param totalElements Total de itens
+ * @param totalPages Total de páginas
+ */
+public record PageResponse<T>(
+        List<T> content,
+        int page,
+        int size,
+        long totalElements,
+        int totalPages
+) {
+    
+    /**
+     * Cria a resposta a partir de uma página, reaproveitando a lista de itens sem cópia.
+     */
+    public static <T> PageResponse<T> of(Page<T> page) {
+        return new PageResponse<>(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages());
+    }
+}
@@ -0,0 +1,21 @@
+package com.gestao.eventos.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO de resposta para listagem sem contagem exata (Slice).
+ * Evita o count(*) por requisição; o total, quando solicitado, é uma estimativa.
+ *
+ * @param content Itens da página
+ * @param page Número da página (começa em 0)
+ * @param size Tamanho da página
+ * @param hasNext Indica se existe próxima página
+ * @param totalEstimate Total aproximado de eventos (null se não solicitado ou indisponível)
+ */
+public record SliceResponse<T>(
+        List<T> content,
+        int page,
+        int size,
+        boolean hasNext,
+        Long totalEstimate
+) {}
@@ -1,25 +1,30 @@
 package com.gestao.eventos.application.service;
 
 import com.gestao.eventos.application.CreateEventUseCase;
+import com.gestao.eventos.application.dto.EventChange;
 import com.gestao.eventos.application.dto.EventRequest;
 import com.gestao.eventos.application.dto.EventResponse;
 import com.gestao.eventos.domain.model.Event;
 import com.gestao.eventos.domain.repository.EventRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Serviço de aplicação para criação de eventos.
  * Implementa o caso de uso CreateEventUseCase.
+ * Publica um EventChange, entregue ao stream de alterações após o commit.
  */
 @Service
 @Transactional
 public class CreateEventService implements CreateEventUseCase {
     
     private final EventRepository eventRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
-    public CreateEventService(EventRepository eventRepository) {
+    public CreateEventService(EventRepository eventRepository, ApplicationEventPublisher eventPublisher) {
         this.eventRepository = eventRepository;
+        this.eventPublisher = eventPublisher;
     }
     
     @Override
@@ -36,7 +41,9 @@ public class CreateEventService implements CreateEventUseCase {
         Event savedEvent = eventRepository.save(event);
         
         // Converte de volta para DTO de resposta
-        return toResponse(savedEvent);
+        EventResponse response = toResponse(savedEvent);
+        eventPublisher.publishEvent(EventChange.created(response));
+        return response;
     }
     
     /**
@@ -0,0 +1,104 @@
+package com.gestao.eventos.application.service;
+
+import com.gestao.eventos.application.CreateEventsBatchUseCase;
+import com.gestao.eventos.application.dto.BatchCreateResponse;
+import com.gestao.eventos.application.dto.EventRequest;
+import com.gestao.eventos.application.dto.EventResponse;
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.repository.EventRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Serviço de aplicação para criação de eventos em lote.
+ * Implementa o caso de uso CreateEventsBatchUseCase.
+ */
+@Service
+@Transactional
+public class CreateEventsBatchService implements CreateEventsBatchUseCase {
+    
+    static final int MAX_BATCH_SIZE = 1000;
+    
+    private final EventRepository eventRepository;
+    private final Validator validator;
+    
+    public CreateEventsBatchService(EventRepository eventRepository, Validator validator) {
+        this.eventRepository = eventRepository;
+        this.validator = validator;
+    }
+    
+    @Override
+    public BatchCreateResponse createAll(List<EventRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("O lote deve conter ao menos um evento");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("O lote não pode ter mais de " + MAX_BATCH_SIZE + " eventos");
+        }
+        
+        List<Event> validEvents = new ArrayList<>(requests.size());
+        List<BatchCreateResponse.ItemError> errors = new ArrayList<>();
+        
+        for (int index = 0; index < requests.size(); index++) {
+            EventRequest request = requests.get(index);
+            if (request == null) {
+                errors.add(new BatchCreateResponse.ItemError(index, "Item não pode ser nulo"));
+                continue;
+            }
+            
+            // Mesmas validações do endpoint unitário: Bean Validation do DTO + regras do domínio
+            Set<ConstraintViolation<EventRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                errors.add(new BatchCreateResponse.ItemError(index, toMessage(violations)));
+                continue;
+            }
+            try {
+                validEvents.add(Event.create(
+                        request.title(),
+                        request.description(),
+                        request.eventAt(),
+                        request.location()
+                ));
+            } catch (IllegalArgumentException e) {
+                errors.add(new BatchCreateResponse.ItemError(index, e.getMessage()));
+            }
+        }
+        
+        // Persiste todos os eventos válidos de uma vez (INSERTs em batch)
+        List<Event> savedEvents = validEvents.isEmpty() ? List.of() : eventRepository.saveAll(validEvents);
+        
+        return new BatchCreateResponse(
+                requests.size(),
+                savedEvents.stream().map(this::toResponse).toList(),
+                errors
+        );
+    }
+    
+    private String toMessage(Set<ConstraintViolation<EventRequest>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+    
+    /**
+     * Converte Event (domínio) para EventResponse (DTO).
+     */
+    private EventResponse toResponse(Event event) {
+        return new EventResponse(
+                event.getId(),
+                event.getTitle(),
+                event.getDescription(),
+                event.getEventAt(),
+                event.getLocation(),
+                event.getCreatedAt()
+        );
+    }
+}
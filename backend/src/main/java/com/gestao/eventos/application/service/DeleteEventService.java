@@ -1,36 +1,38 @@
 package com.gestao.eventos.application.service;
 
 import com.gestao.eventos.application.DeleteEventUseCase;
-import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.application.dto.EventChange;
+import com.gestao.eventos.config.CacheConfig;
 import com.gestao.eventos.domain.repository.EventRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Serviço de aplicação para deletar um evento (soft delete).
  * Implementa o caso de uso DeleteEventUseCase.
+ * Publica um EventChange, entregue ao stream de alterações após o commit.
  */
 @Service
 @Transactional
 public class DeleteEventService implements DeleteEventUseCase {
     
     private final EventRepository eventRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
-    public DeleteEventService(EventRepository eventRepository) {
+    public DeleteEventService(EventRepository eventRepository, ApplicationEventPublisher eventPublisher) {
         this.eventRepository = eventRepository;
+        this.eventPublisher = eventPublisher;
     }
     
     @Override
+    @CacheEvict(cacheNames = CacheConfig.EVENTS_CACHE, key = "#id")
     public void delete(Long id) {
-        // Busca o evento existente
-        Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Evento não encontrado com ID: " + id));
-        
-        // Marca como deletado usando o método de domínio (soft delete)
-        event.markAsDeleted();
-        
-        // Salva as alterações
-        eventRepository.save(event);
+        // Soft delete em uma única operação (apenas eventos não deletados)
+        if (!eventRepository.markAsDeleted(id)) {
+            throw new IllegalArgumentException("Evento não encontrado com ID: " + id);
+        }
+        eventPublisher.publishEvent(EventChange.deleted(id));
     }
 }
-
@@ -0,0 +1,236 @@
+package com.gestao.eventos.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gestao.eventos.application.IngestEventUseCase;
+import com.gestao.eventos.application.IngestionQueueFullException;
+import com.gestao.eventos.application.dto.EventRequest;
+import com.gestao.eventos.application.dto.IngestionStatusResponse;
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.repository.EventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serviço de aplicação para ingestão assíncrona de eventos (write-behind).
+ * Implementa o caso de uso IngestEventUseCase.
+ *
+ * Os eventos validados entram em uma fila limitada; uma única thread de gravação
+ * drena a fila em lotes, cada lote em sua própria transação. Rajadas de criação
+ * passam a usar uma conexão por lote em vez de uma por requisição. Com a fila cheia,
+ * submit falha com IngestionQueueFullException (429).
+ *
+ * Sem @Transactional na classe: submit não acessa o banco e não deve ocupar conexão.
+ * No encerramento, a aplicação para de aceitar eventos e a fila é drenada antes
+ * de o DataSource ser fechado (fase anterior à do servidor web).
+ */
+@Service
+public class EventIngestionService implements IngestEventUseCase, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(EventIngestionService.class);
+
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingEvent> queue;
+    private final Cache<String, IngestionStatusResponse> statuses;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Duration shutdownTimeout;
+    private final Counter createdCounter;
+    private final Counter failedCounter;
+    private final Counter rejectedCounter;
+
+    private volatile boolean accepting;
+    private volatile Thread writer;
+
+    public EventIngestionService(EventRepository eventRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.ingestion.queue-capacity}") int queueCapacity,
+                                 @Value("${app.ingestion.batch-size}") int batchSize,
+                                 @Value("${app.ingestion.flush-interval}") Duration flushInterval,
+                                 @Value("${app.ingestion.shutdown-timeout}") Duration shutdownTimeout,
+                                 @Value("${app.ingestion.status-ttl}") Duration statusTtl) {
+        if (queueCapacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("queueCapacity e batchSize devem ser maiores que zero");
+        }
+        this.eventRepository = eventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        // Limite de tamanho para que status não consultados não cresçam sem controle
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(Math.max(10L * queueCapacity, 10_000L))
+                .expireAfterWrite(statusTtl)
+                .build();
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushInterval.toMillis();
+        this.shutdownTimeout = shutdownTimeout;
+
+        meterRegistry.gauge("app.ingestion.queue.size", queue, BlockingQueue::size);
+        this.createdCounter = ingestionCounter(meterRegistry, "created");
+        this.failedCounter = ingestionCounter(meterRegistry, "failed");
+        this.rejectedCounter = ingestionCounter(meterRegistry, "rejected");
+    }
+
+    @Override
+    public IngestionStatusResponse submit(EventRequest request) {
+        // Mesmas regras do endpoint síncrono, aplicadas antes de aceitar o evento
+        Event event = Event.create(
+                request.title(),
+                request.description(),
+                request.eventAt(),
+                request.location()
+        );
+
+        IngestionStatusResponse status = IngestionStatusResponse.queued(UUID.randomUUID().toString(), LocalDateTime.now());
+        statuses.put(status.trackingId(), status);
+        if (!accepting || !queue.offer(new PendingEvent(status.trackingId(), event))) {
+            statuses.invalidate(status.trackingId());
+            rejectedCounter.increment();
+            throw new IngestionQueueFullException(accepting
+                    ? "Fila de ingestão cheia; tente novamente em instantes"
+                    : "Ingestão indisponível: aplicação encerrando");
+        }
+        return status;
+    }
+
+    @Override
+    public IngestionStatusResponse getStatus(String trackingId) {
+        IngestionStatusResponse status = trackingId == null ? null : statuses.getIfPresent(trackingId);
+        if (status == null) {
+            throw new IllegalArgumentException("Ingestão não encontrada com ID: " + trackingId);
+        }
+        return status;
+    }
+
+    /**
+     * Quantidade de eventos aguardando gravação.
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        accepting = true;
+        Thread thread = new Thread(this::drainLoop, "event-ingestion-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        accepting = false;
+        Thread thread = writer;
+        writer = null;
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            log.warn("Ingestão encerrada com {} eventos não gravados na fila", queue.size());
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return writer != null;
+    }
+
+    /**
+     * Para depois do servidor web (que para de receber requisições primeiro)
+     * e antes da destruição do DataSource.
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+        while (accepting || !queue.isEmpty()) {
+            try {
+                PendingEvent first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Falha inesperada na gravação de eventos enfileirados", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Grava o lote em uma transação. Se o lote falhar, cada evento é regravado
+     * em sua própria transação, para que um item com problema não derrube os demais.
+     */
+    private void write(List<PendingEvent> batch) {
+        try {
+            List<Event> saved = transactionTemplate.execute(status ->
+                    eventRepository.saveAll(batch.stream().map(PendingEvent::event).toList()));
+            for (int i = 0; i < batch.size(); i++) {
+                markCreated(batch.get(i), saved.get(i));
+            }
+        } catch (RuntimeException batchFailure) {
+            log.warn("Falha ao gravar lote de {} eventos; gravando individualmente", batch.size(), batchFailure);
+            batch.forEach(this::writeSingle);
+        }
+    }
+
+    private void writeSingle(PendingEvent pending) {
+        try {
+            Event saved = transactionTemplate.execute(status -> eventRepository.save(pending.event()));
+            markCreated(pending, saved);
+        } catch (RuntimeException e) {
+            statuses.asMap().computeIfPresent(pending.trackingId(), (id, status) -> status.failed(e.getMessage()));
+            failedCounter.increment();
+        }
+    }
+
+    private void markCreated(PendingEvent pending, Event saved) {
+        statuses.asMap().computeIfPresent(pending.trackingId(), (id, status) -> status.created(saved.getId()));
+        createdCounter.increment();
+    }
+
+    private static Counter ingestionCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("app.ingestion.events")
+                .description("Eventos da ingestão assíncrona por resultado")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Evento validado aguardando gravação.
+     */
+    private record PendingEvent(String trackingId, Event event) {}
+}
@@ -0,0 +1,48 @@
+package com.gestao.eventos.application.service;
+
+import com.gestao.eventos.application.ExportEventsUseCase;
+import com.gestao.eventos.application.dto.EventResponse;
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.repository.EventRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Serviço de aplicação para exportar eventos em streaming.
+ * Implementa o caso de uso ExportEventsUseCase.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ExportEventsService implements ExportEventsUseCase {
+    
+    private final EventRepository eventRepository;
+    
+    public ExportEventsService(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+    
+    @Override
+    public void export(Consumer<EventResponse> consumer) {
+        // O stream mantém o cursor aberto durante a transação e deve ser fechado ao final
+        try (Stream<Event> events = eventRepository.streamAll()) {
+            events.map(this::toResponse).forEach(consumer);
+        }
+    }
+    
+    /**
+     * Converte Event (domínio) para EventResponse (DTO).
+     */
+    private EventResponse toResponse(Event event) {
+        return new EventResponse(
+                event.getId(),
+                event.getTitle(),
+                event.getDescription(),
+                event.getEventAt(),
+                event.getLocation(),
+                event.getCreatedAt()
+        );
+    }
+}
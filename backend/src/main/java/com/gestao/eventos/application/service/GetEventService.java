@@ -2,8 +2,10 @@ package com.gestao.eventos.application.service;
 
 import com.gestao.eventos.application.GetEventUseCase;
 import com.gestao.eventos.application.dto.EventResponse;
+import com.gestao.eventos.config.CacheConfig;
 import com.gestao.eventos.domain.model.Event;
 import com.gestao.eventos.domain.repository.EventRepository;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +26,7 @@ public class GetEventService implements GetEventUseCase {
     }
     
     @Override
+    @Cacheable(cacheNames = CacheConfig.EVENTS_CACHE, key = "#id")
     public EventResponse getById(Long id) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Evento não encontrado com ID: " + id));
@@ -0,0 +1,108 @@
+package com.gestao.eventos.application.service;
+
+import com.gestao.eventos.application.ImportEventsUseCase;
+import com.gestao.eventos.application.dto.EventRequest;
+import com.gestao.eventos.application.dto.ImportReport;
+import com.gestao.eventos.application.dto.ImportRow;
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.repository.EventRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Serviço de aplicação para importação em massa de eventos.
+ * Implementa o caso de uso ImportEventsUseCase.
+ * 
+ * Cada bloco de linhas válidas é inserido e confirmado em sua própria transação,
+ * mantendo limitados o uso de memória e a duração dos locks.
+ */
+@Service
+public class ImportEventsService implements ImportEventsUseCase {
+    
+    static final int CHUNK_SIZE = 5000;
+    static final int MAX_REPORTED_REJECTIONS = 1000;
+    
+    private final EventRepository eventRepository;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    
+    public ImportEventsService(EventRepository eventRepository, Validator validator,
+                               PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    @Override
+    public ImportReport importEvents(Iterator<ImportRow> rows) {
+        List<Event> chunk = new ArrayList<>(CHUNK_SIZE);
+        List<ImportReport.RejectedRow> rejectedRows = new ArrayList<>();
+        long rowsRead = 0;
+        long imported = 0;
+        long rejected = 0;
+        
+        while (rows.hasNext()) {
+            ImportRow row = rows.next();
+            rowsRead++;
+            
+            String error = row.error();
+            if (error == null) {
+                try {
+                    chunk.add(toEvent(row.request()));
+                } catch (IllegalArgumentException e) {
+                    error = e.getMessage();
+                }
+            }
+            if (error != null) {
+                rejected++;
+                if (rejectedRows.size() < MAX_REPORTED_REJECTIONS) {
+                    rejectedRows.add(new ImportReport.RejectedRow(row.line(), error));
+                }
+            }
+            
+            if (chunk.size() == CHUNK_SIZE) {
+                imported += insertChunk(chunk);
+            }
+        }
+        imported += insertChunk(chunk);
+        
+        return new ImportReport(rowsRead, imported, rejected, rejectedRows, rejected > rejectedRows.size());
+    }
+    
+    /**
+     * Aplica as mesmas validações da criação unitária: Bean Validation do DTO + regras do domínio.
+     */
+    private Event toEvent(EventRequest request) {
+        Set<ConstraintViolation<EventRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+        return Event.create(
+                request.title(),
+                request.description(),
+                request.eventAt(),
+                request.location()
+        );
+    }
+    
+    private int insertChunk(List<Event> chunk) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        Integer inserted = transactionTemplate.execute(status -> eventRepository.bulkInsert(chunk));
+        chunk.clear();
+        return inserted != null ? inserted : 0;
+    }
+}
@@ -1,14 +1,29 @@
 package com.gestao.eventos.application.service;
 
 import com.gestao.eventos.application.ListEventsUseCase;
+import com.gestao.eventos.application.dto.CursorPage;
+import com.gestao.eventos.application.dto.EventCursor;
 import com.gestao.eventos.application.dto.EventResponse;
+import com.gestao.eventos.application.dto.EventSummaryResponse;
+import com.gestao.eventos.application.dto.SliceResponse;
 import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.model.EventSummary;
+import com.gestao.eventos.domain.model.EventView;
 import com.gestao.eventos.domain.repository.EventRepository;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 /**
  * Serviço de aplicação para listar eventos com paginação.
  * Implementa o caso de uso ListEventsUseCase.
@@ -17,6 +32,18 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class ListEventsService implements ListEventsUseCase {
     
+    static final int MAX_CURSOR_PAGE_SIZE = 100;
+    
+    /**
+     * Ordem dos próximos eventos; segue o índice idx_events_live_event_at_id.
+     */
+    private static final Sort UPCOMING_SORT = Sort.by("eventAt", "id");
+    
+    /**
+     * Campos que podem ser selecionados em listFields (mesmos nomes de EventResponse).
+     */
+    static final List<String> SELECTABLE_FIELDS = List.of("id", "title", "description", "eventAt", "location", "createdAt");
+    
     private final EventRepository eventRepository;
     
     public ListEventsService(EventRepository eventRepository) {
@@ -25,10 +52,113 @@ public class ListEventsService implements ListEventsUseCase {
     
     @Override
     public Page<EventResponse> list(Pageable pageable) {
-        Page<Event> events = eventRepository.findAll(pageable);
+        // Projeção direta no modelo de leitura: uma alocação por linha além da resposta
+        Page<EventView> events = eventRepository.findAllViews(pageable);
         return events.map(this::toResponse);
     }
     
+    @Override
+    public Page<EventSummaryResponse> listSummaries(Pageable pageable) {
+        Page<EventSummary> summaries = eventRepository.findAllSummaries(pageable);
+        return summaries.map(summary -> new EventSummaryResponse(
+                summary.id(),
+                summary.title(),
+                summary.eventAt(),
+                summary.location(),
+                summary.descriptionExcerpt()
+        ));
+    }
+    
+    @Override
+    public Page<Map<String, Object>> listFields(List<String> fields, Pageable pageable) {
+        // O id é sempre retornado (necessário para navegar até o evento)
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        for (String field : fields) {
+            String name = field.trim();
+            if (!SELECTABLE_FIELDS.contains(name)) {
+                throw new IllegalArgumentException("Campo inválido: " + name + ". Campos disponíveis: " + SELECTABLE_FIELDS);
+            }
+            selected.add(name);
+        }
+        return eventRepository.findAllFields(List.copyOf(selected), pageable);
+    }
+    
+    @Override
+    public Page<EventResponse> list(LocalDateTime from, LocalDateTime to, boolean upcoming, Pageable pageable) {
+        if (upcoming) {
+            LocalDateTime now = LocalDateTime.now();
+            from = from == null || from.isBefore(now) ? now : from;
+            pageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), UPCOMING_SORT);
+        }
+        if (from == null && to == null) {
+            return list(pageable);
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("From deve ser anterior a to");
+        }
+        
+        Page<Event> events = eventRepository.findAllBetween(from, to, pageable);
+        return events.map(this::toResponse);
+    }
+    
+    @Override
+    public SliceResponse<EventResponse> listSlice(Pageable pageable, boolean estimateTotal) {
+        Slice<Event> events = eventRepository.findAllSlice(pageable);
+        Long totalEstimate = estimateTotal ? eventRepository.estimateCount().orElse(null) : null;
+        
+        return new SliceResponse<>(
+                events.map(this::toResponse).getContent(),
+                events.getNumber(),
+                events.getSize(),
+                events.hasNext(),
+                totalEstimate
+        );
+    }
+    
+    @Override
+    public CursorPage<EventResponse> listAfter(String after, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("Size deve estar entre 1 e " + MAX_CURSOR_PAGE_SIZE);
+        }
+        EventCursor cursor = after != null && !after.isBlank() ? EventCursor.decode(after) : null;
+        
+        // Busca um registro a mais para saber se existe próxima página sem executar count(*)
+        List<Event> events = eventRepository.findNextPage(
+                cursor != null ? cursor.eventAt() : null,
+                cursor != null ? cursor.id() : null,
+                size + 1
+        );
+        
+        boolean hasNext = events.size() > size;
+        List<Event> pageEvents = hasNext ? events.subList(0, size) : events;
+        String nextCursor = null;
+        if (hasNext) {
+            Event last = pageEvents.get(pageEvents.size() - 1);
+            nextCursor = new EventCursor(last.getEventAt(), last.getId()).encode();
+        }
+        
+        return new CursorPage<>(
+                pageEvents.stream().map(this::toResponse).toList(),
+                nextCursor,
+                hasNext
+        );
+    }
+    
+    /**
+     * Converte EventView (modelo de leitura) para EventResponse (DTO).
+     */
+    private EventResponse toResponse(EventView view) {
+        return new EventResponse(
+                view.id(),
+                view.title(),
+                view.description(),
+                view.eventAt(),
+                view.location(),
+                view.createdAt()
+        );
+    }
+    
     /**
      * Converte Event (domínio) para EventResponse (DTO).
      */
@@ -0,0 +1,43 @@
+package com.gestao.eventos.application.service;
+
+import com.gestao.eventos.application.ReactiveGetEventUseCase;
+import com.gestao.eventos.application.dto.EventResponse;
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.repository.ReactiveEventRepository;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serviço de aplicação reativo para buscar um evento por ID.
+ * Implementa o caso de uso ReactiveGetEventUseCase.
+ */
+@Service
+public class ReactiveGetEventService implements ReactiveGetEventUseCase {
+    
+    private final ReactiveEventRepository reactiveEventRepository;
+    
+    public ReactiveGetEventService(ReactiveEventRepository reactiveEventRepository) {
+        this.reactiveEventRepository = reactiveEventRepository;
+    }
+    
+    @Override
+    public Mono<EventResponse> getById(Long id) {
+        return reactiveEventRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new IllegalArgumentException("Evento não encontrado com ID: " + id)))
+                .map(this::toResponse);
+    }
+    
+    /**
+     * Converte Event (domínio) para EventResponse (DTO).
+     */
+    private EventResponse toResponse(Event event) {
+        return new EventResponse(
+                event.getId(),
+                event.getTitle(),
+                event.getDescription(),
+                event.getEventAt(),
+                event.getLocation(),
+                event.getCreatedAt()
+        );
+    }
+}
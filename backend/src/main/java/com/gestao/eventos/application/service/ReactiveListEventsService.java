@@ -0,0 +1,62 @@
+package com.gestao.eventos.application.service;
+
+import com.gestao.eventos.application.ReactiveListEventsUseCase;
+import com.gestao.eventos.application.dto.EventResponse;
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.repository.ReactiveEventRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Serviço de aplicação reativo para listar eventos com paginação.
+ * Implementa o caso de uso ReactiveListEventsUseCase.
+ */
+@Service
+public class ReactiveListEventsService implements ReactiveListEventsUseCase {
+    
+    static final int MAX_PAGE_SIZE = 100;
+    
+    private final ReactiveEventRepository reactiveEventRepository;
+    
+    public ReactiveListEventsService(ReactiveEventRepository reactiveEventRepository) {
+        this.reactiveEventRepository = reactiveEventRepository;
+    }
+    
+    @Override
+    public Mono<Page<EventResponse>> list(int page, int size) {
+        if (page < 0) {
+            return Mono.error(new IllegalArgumentException("Page não pode ser negativo"));
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            return Mono.error(new IllegalArgumentException("Size deve estar entre 1 e " + MAX_PAGE_SIZE));
+        }
+        
+        // Conteúdo e contagem são consultados em paralelo
+        return Mono.zip(
+                reactiveEventRepository.findPage(page, size).map(this::toResponse).collectList(),
+                reactiveEventRepository.count()
+        ).<Page<EventResponse>>map(result -> new PageImpl<>(
+                result.getT1(),
+                PageRequest.of(page, size, Sort.by("eventAt", "id")),
+                result.getT2()
+        ));
+    }
+    
+    /**
+     * Converte Event (domínio) para EventResponse (DTO).
+     */
+    private EventResponse toResponse(Event event) {
+        return new EventResponse(
+                event.getId(),
+                event.getTitle(),
+                event.getDescription(),
+                event.getEventAt(),
+                event.getLocation(),
+                event.getCreatedAt()
+        );
+    }
+}
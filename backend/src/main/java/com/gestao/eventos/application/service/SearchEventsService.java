@@ -0,0 +1,56 @@
+package com.gestao.eventos.application.service;
+
+import com.gestao.eventos.application.SearchEventsUseCase;
+import com.gestao.eventos.application.dto.EventResponse;
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.repository.EventRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Serviço de aplicação para busca textual de eventos.
+ * Implementa o caso de uso SearchEventsUseCase.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SearchEventsService implements SearchEventsUseCase {
+    
+    static final int MAX_QUERY_LENGTH = 200;
+    
+    private final EventRepository eventRepository;
+    
+    public SearchEventsService(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+    
+    @Override
+    public Page<EventResponse> search(String query, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Texto da busca é obrigatório");
+        }
+        String trimmedQuery = query.trim();
+        if (trimmedQuery.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Texto da busca não pode ter mais de " + MAX_QUERY_LENGTH + " caracteres");
+        }
+        
+        // A ordenação recebida é ignorada: os resultados são ordenados por relevância
+        Page<Event> events = eventRepository.search(trimmedQuery, pageable.getPageNumber(), pageable.getPageSize());
+        return events.map(this::toResponse);
+    }
+    
+    /**
+     * Converte Event (domínio) para EventResponse (DTO).
+     */
+    private EventResponse toResponse(Event event) {
+        return new EventResponse(
+                event.getId(),
+                event.getTitle(),
+                event.getDescription(),
+                event.getEventAt(),
+                event.getLocation(),
+                event.getCreatedAt()
+        );
+    }
+}
@@ -1,46 +1,53 @@
 package com.gestao.eventos.application.service;
 
 import com.gestao.eventos.application.UpdateEventUseCase;
+import com.gestao.eventos.application.dto.EventChange;
 import com.gestao.eventos.application.dto.EventRequest;
 import com.gestao.eventos.application.dto.EventResponse;
+import com.gestao.eventos.config.CacheConfig;
 import com.gestao.eventos.domain.model.Event;
 import com.gestao.eventos.domain.repository.EventRepository;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Serviço de aplicação para atualizar um evento.
  * Implementa o caso de uso UpdateEventUseCase.
+ * Publica um EventChange, entregue ao stream de alterações após o commit.
  */
 @Service
 @Transactional
 public class UpdateEventService implements UpdateEventUseCase {
     
     private final EventRepository eventRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
-    public UpdateEventService(EventRepository eventRepository) {
+    public UpdateEventService(EventRepository eventRepository, ApplicationEventPublisher eventPublisher) {
         this.eventRepository = eventRepository;
+        this.eventPublisher = eventPublisher;
     }
     
     @Override
+    @CacheEvict(cacheNames = CacheConfig.EVENTS_CACHE, key = "#id")
     public EventResponse update(Long id, EventRequest request) {
-        // Busca o evento existente
-        Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Evento não encontrado com ID: " + id));
-        
-        // Atualiza os dados do evento usando o método de domínio
-        event.update(
+        // Valida os novos dados com as mesmas regras do domínio
+        Event changes = Event.create(
                 request.title(),
                 request.description(),
                 request.eventAt(),
                 request.location()
         );
         
-        // Salva as alterações
-        Event updatedEvent = eventRepository.save(event);
+        // Atualiza em uma única operação (apenas eventos não deletados)
+        Event updatedEvent = eventRepository.update(id, changes)
+                .orElseThrow(() -> new IllegalArgumentException("Evento não encontrado com ID: " + id));
         
         // Converte para DTO de resposta
-        return toResponse(updatedEvent);
+        EventResponse response = toResponse(updatedEvent);
+        eventPublisher.publishEvent(EventChange.updated(response));
+        return response;
     }
     
     /**
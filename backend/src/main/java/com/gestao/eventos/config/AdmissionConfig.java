@@ -0,0 +1,34 @@
+package com.gestao.eventos.config;
+
+import com.gestao.eventos.adapters.inbound.rest.admission.AdmissionInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Admissão de requisições em /api/** (limite de taxa por cliente e bulkheads).
+ * Habilitada com app.admission.enabled=true; limites em app.admission.*.
+ * O stream de alterações fica de fora: cada conexão ocuparia uma vaga do bulkhead
+ * de leitura enquanto aberta; ele tem limite próprio (app.events.stream.max-clients).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.admission.enabled", havingValue = "true")
+@EnableConfigurationProperties(AdmissionProperties.class)
+public class AdmissionConfig implements WebMvcConfigurer {
+
+    private final AdmissionInterceptor admissionInterceptor;
+
+    public AdmissionConfig(AdmissionProperties admissionProperties, MeterRegistry meterRegistry) {
+        this.admissionInterceptor = new AdmissionInterceptor(admissionProperties, meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admissionInterceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/events/stream");
+    }
+}
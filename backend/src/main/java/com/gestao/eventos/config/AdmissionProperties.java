@@ -0,0 +1,53 @@
+package com.gestao.eventos.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Limites de admissão de requisições da API (app.admission).
+ *
+ * @param clientIdHeader Cabeçalho com a chave de API do cliente; sem ele, o cliente é o IP
+ * @param apiKeys Chaves de API reconhecidas; com outra chave, o cliente também é o IP
+ * @param maxTrackedClients Quantidade máxima de baldes de tokens mantidos em memória
+ * @param clientIdleTimeout Tempo sem requisições após o qual o balde de um cliente é descartado
+ * @param read Limites das leituras (GET/HEAD)
+ * @param write Limites das escritas (POST/PUT/DELETE)
+ * @param endpoints Taxa por endpoint ("MÉTODO /padrão"), substituindo a da categoria
+ */
+@ConfigurationProperties(prefix = "app.admission")
+public record AdmissionProperties(
+        String clientIdHeader,
+        Set<String> apiKeys,
+        int maxTrackedClients,
+        Duration clientIdleTimeout,
+        Limits read,
+        Limits write,
+        Map<String, RateLimit> endpoints
+) {
+    
+    public AdmissionProperties {
+        apiKeys = apiKeys == null ? Set.of() : Set.copyOf(apiKeys);
+        endpoints = endpoints == null ? Map.of() : Map.copyOf(endpoints);
+    }
+    
+    /**
+     * Limites de uma categoria (leitura ou escrita).
+     *
+     * @param rate Tokens repostos por segundo, por cliente
+     * @param burst Capacidade do balde (rajada máxima), por cliente
+     * @param maxConcurrent Requisições simultâneas da categoria, somando todos os clientes
+     * @param maxWait Espera máxima por uma vaga no bulkhead antes de responder 503
+     */
+    public record Limits(double rate, int burst, int maxConcurrent, Duration maxWait) {}
+    
+    /**
+     * Taxa de um endpoint específico, por cliente.
+     *
+     * @param rate Tokens repostos por segundo
+     * @param burst Capacidade do balde
+     */
+    public record RateLimit(double rate, int burst) {}
+}
@@ -0,0 +1,35 @@
+package com.gestao.eventos.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do cache em memória (Caffeine).
+ * O cache de eventos é limitado por tamanho e TTL; as estatísticas (hit/miss/eviction)
+ * são publicadas pelo actuator em /actuator/metrics/cache.*.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Cache de eventos por ID (EventResponse).
+     */
+    public static final String EVENTS_CACHE = "events";
+
+    /**
+     * As operações de put/evict só são aplicadas após o commit da transação,
+     * evitando que uma leitura concorrente repopule o cache com dados não confirmados.
+     */
+    @Bean
+    public CacheManager cacheManager(@Value("${app.cache.events.spec}") String eventsCacheSpec) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager(EVENTS_CACHE);
+        caffeineCacheManager.setCacheSpecification(eventsCacheSpec);
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,29 @@
+package com.gestao.eventos.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Set;
+
+/**
+ * Identificação do cliente de uma requisição: a chave de API, quando é uma das
+ * chaves configuradas, ou o IP.
+ *
+ * Uma chave desconhecida é ignorada: se fosse aceita, cada valor aleatório do
+ * cabeçalho ganharia um registro novo (ex.: um balde de tokens cheio) e os registros
+ * dos clientes legítimos seriam descartados do limite de memória.
+ */
+public final class ClientIdResolver {
+
+    private final String apiKeyHeader;
+    private final Set<String> apiKeys;
+
+    public ClientIdResolver(String apiKeyHeader, Set<String> apiKeys) {
+        this.apiKeyHeader = apiKeyHeader;
+        this.apiKeys = apiKeys == null ? Set.of() : Set.copyOf(apiKeys);
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String apiKey = request.getHeader(apiKeyHeader);
+        return apiKey != null && apiKeys.contains(apiKey) ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+    }
+}
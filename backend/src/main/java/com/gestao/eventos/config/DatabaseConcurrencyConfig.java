@@ -0,0 +1,60 @@
+package com.gestao.eventos.config;
+
+import com.gestao.eventos.adapters.outbound.persistence.ConcurrencyLimitedDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Limite de concorrência de acesso ao banco, à frente do pool de conexões.
+ * Habilitado com app.db.concurrency-limit.enabled=true; recomendado junto com
+ * spring.threads.virtual.enabled=true (modo de execução com virtual threads).
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.db.concurrency-limit.enabled", havingValue = "true")
+public class DatabaseConcurrencyConfig {
+
+    /**
+     * Envolve o DataSource auto-configurado (Hikari) com ConcurrencyLimitedDataSource.
+     * Estático para ser registrado antes dos demais beans.
+     */
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment) {
+        int maxConcurrent = environment.getRequiredProperty("app.db.concurrency-limit.max-concurrent", Integer.class);
+        Duration acquireTimeout = environment.getRequiredProperty("app.db.concurrency-limit.acquire-timeout", Duration.class);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    return new ConcurrencyLimitedDataSource(dataSource, maxConcurrent, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Ocupação do limitador: app.db.concurrency.active (conexões em uso) e
+     * app.db.concurrency.waiting (threads na fila por uma conexão).
+     */
+    @Bean
+    public MeterBinder concurrencyLimitedDataSourceMetrics(DataSource dataSource) throws SQLException {
+        ConcurrencyLimitedDataSource limiter = dataSource.unwrap(ConcurrencyLimitedDataSource.class);
+        return registry -> {
+            Gauge.builder("app.db.concurrency.active", limiter, ConcurrencyLimitedDataSource::getActiveConnections)
+                    .description("Conexões em uso por meio do limitador de concorrência")
+                    .register(registry);
+            Gauge.builder("app.db.concurrency.waiting", limiter, ConcurrencyLimitedDataSource::getWaitingThreads)
+                    .description("Threads aguardando uma conexão no limitador de concorrência")
+                    .register(registry);
+        };
+    }
+}
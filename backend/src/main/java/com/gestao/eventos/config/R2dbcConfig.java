@@ -0,0 +1,33 @@
+package com.gestao.eventos.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * DataSource JDBC do perfil r2dbc.
+ *
+ * Com um ConnectionFactory (R2DBC) no contexto, o Spring Boot não auto-configura o
+ * DataSource, e com ele sairiam JPA, Flyway e JdbcTemplate. As escritas e as migrations
+ * continuam em JDBC, então o pool do Hikari é declarado aqui com spring.datasource.*.
+ * Com réplicas de leitura, o DataSource é o de ReadReplicaConfig.
+ */
+@Configuration
+@Profile("r2dbc")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class R2dbcConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    @ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "false", matchIfMissing = true)
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.gestao.eventos.config;
+
+import com.gestao.eventos.adapters.outbound.persistence.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Roteamento de leituras para réplicas do PostgreSQL.
+ * Habilitado com app.datasource.replicas.enabled=true e app.datasource.replicas.urls.
+ *
+ * Substitui o DataSource auto-configurado: o primário usa spring.datasource.*, e cada
+ * réplica usa a mesma configuração do Hikari (spring.datasource.hikari.*) com a própria URL.
+ * Transações @Transactional(readOnly = true) são atendidas pelas réplicas.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Bean(destroyMethod = "close")
+    public ReadReplicaPools readReplicaPools(
+            DataSourceProperties dataSourceProperties,
+            Environment environment,
+            MeterRegistry meterRegistry,
+            @Value("${app.datasource.replicas.urls}") List<String> replicaUrls,
+            @Value("${app.datasource.replicas.max-lag}") Duration maxLag) {
+        if (replicaUrls.isEmpty()) {
+            throw new IllegalArgumentException("app.datasource.replicas.urls deve ter ao menos uma URL");
+        }
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = pool(dataSourceProperties, binder, meterRegistry);
+        if (primary.getPoolName() == null) {
+            primary.setPoolName("primary");
+        }
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (int index = 0; index < replicaUrls.size(); index++) {
+            HikariDataSource replica = pool(dataSourceProperties, binder, meterRegistry);
+            replica.setJdbcUrl(replicaUrls.get(index).trim());
+            replica.setPoolName("replica-" + (index + 1));
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        ReadReplicaPools pools = new ReadReplicaPools(primary, replicas, maxLag);
+        Gauge.builder("app.datasource.replicas.healthy", pools.getRoutingDataSource(),
+                        ReplicaRoutingDataSource::getHealthyReplicas)
+                .description("Réplicas de leitura no rodízio")
+                .register(meterRegistry);
+        return pools;
+    }
+
+    /**
+     * A conexão real só é obtida no primeiro statement, quando a transação já foi
+     * marcada como somente leitura e o roteador consegue escolher o destino.
+     */
+    @Bean
+    public DataSource dataSource(ReadReplicaPools readReplicaPools) {
+        return new LazyConnectionDataSourceProxy(readReplicaPools.getRoutingDataSource());
+    }
+
+    /**
+     * Janela de leitura das próprias escritas; 0s desativa (os registros expiram na hora).
+     */
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${app.datasource.replicas.read-your-writes-window}") Duration window,
+            @Value("${app.datasource.replicas.client-id-header}") String clientIdHeader,
+            @Value("${app.datasource.replicas.api-keys}") Set<String> apiKeys) {
+        return new ReadYourWritesFilter(new ClientIdResolver(clientIdHeader, apiKeys), window, 10_000);
+    }
+
+    private static HikariDataSource pool(DataSourceProperties dataSourceProperties, Binder binder,
+                                         MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        // Os pools não são beans, então as métricas hikaricp.* são registradas aqui
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return dataSource;
+    }
+}
@@ -0,0 +1,47 @@
+package com.gestao.eventos.config;
+
+import com.gestao.eventos.adapters.outbound.persistence.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pools do primário e das réplicas de leitura, com o roteamento entre eles.
+ * Os pools não são beans DataSource: o único DataSource da aplicação é o roteador,
+ * e os pools são fechados junto com este bean.
+ */
+public class ReadReplicaPools implements AutoCloseable {
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final Duration maxLag;
+
+    public ReadReplicaPools(HikariDataSource primary, List<HikariDataSource> replicas, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.routingDataSource = new ReplicaRoutingDataSource(primary, new ArrayList<>(replicas));
+        this.maxLag = maxLag;
+    }
+
+    public ReplicaRoutingDataSource getRoutingDataSource() {
+        return routingDataSource;
+    }
+
+    /**
+     * Verificação periódica das réplicas (conexão e atraso de replicação).
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.health-check-interval}")
+    public void checkReplicas() {
+        routingDataSource.checkReplicas(maxLag);
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+}
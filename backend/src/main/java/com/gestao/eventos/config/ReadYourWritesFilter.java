@@ -0,0 +1,53 @@
+package com.gestao.eventos.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gestao.eventos.adapters.outbound.persistence.ReplicaRoutingDataSource;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Janela de leitura das próprias escritas: depois de uma escrita bem-sucedida,
+ * as leituras do mesmo cliente (chave de API configurada ou IP) vão para o primário durante
+ * a janela configurada, em vez de uma réplica possivelmente atrasada.
+ *
+ * O registro das escritas é local a cada instância da aplicação.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final ClientIdResolver clientIdResolver;
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(ClientIdResolver clientIdResolver, Duration window, int maxTrackedClients) {
+        this.clientIdResolver = clientIdResolver;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(maxTrackedClients)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clientId = clientIdResolver.resolve(request);
+        ReplicaRoutingDataSource.pinToPrimary(recentWriters.getIfPresent(clientId) != null);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.pinToPrimary(false);
+            if (!isRead(request.getMethod()) && response.getStatus() < 400) {
+                recentWriters.put(clientId, Boolean.TRUE);
+            }
+        }
+    }
+
+    private static boolean isRead(String method) {
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+    }
+}
@@ -0,0 +1,35 @@
+package com.gestao.eventos.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Valor da tag endpoint das métricas: método HTTP + padrão da rota (ex.: "GET /api/events/{id}").
+ * Usa o padrão e não a URI, para manter a cardinalidade das tags limitada.
+ */
+public final class RequestEndpoints {
+
+    public static final String NONE = "none";
+
+    private RequestEndpoints() {
+    }
+
+    public static String of(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNKNOWN");
+    }
+
+    /**
+     * Rota da requisição da thread atual, ou "none" fora de requisições.
+     */
+    public static String current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return NONE;
+        }
+        return of(servletAttributes.getRequest());
+    }
+}
@@ -0,0 +1,46 @@
+package com.gestao.eventos.config;
+
+import com.gestao.eventos.adapters.outbound.persistence.StatementCountingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Instrumentação de statements SQL por requisição (N+1 e consultas redundantes).
+ * Habilitada com app.db.statement-metrics.enabled=true; os cabeçalhos de diagnóstico
+ * são controlados por app.db.statement-metrics.header-enabled.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.db.statement-metrics.enabled", havingValue = "true")
+public class SqlStatementMetricsConfig {
+
+    /**
+     * Envolve o DataSource auto-configurado com StatementCountingDataSource.
+     * Estático para ser registrado antes dos demais beans.
+     */
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+                    return new StatementCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlStatementMetricsFilter sqlStatementMetricsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.db.statement-metrics.header-enabled}") boolean headerEnabled,
+            @Value("${app.db.statement-metrics.warn-threshold}") int warnThreshold) {
+        return new SqlStatementMetricsFilter(meterRegistry, headerEnabled, warnThreshold);
+    }
+}
@@ -0,0 +1,141 @@
+package com.gestao.eventos.config;
+
+import com.gestao.eventos.adapters.outbound.persistence.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Conta os statements SQL e o tempo de banco de cada requisição HTTP.
+ *
+ * Publica app.db.statements (quantidade por requisição) e app.db.time com a tag
+ * endpoint e registra um alerta quando uma requisição passa do limite configurado,
+ * sinal típico de N+1. Opcionalmente devolve os totais nos cabeçalhos
+ * X-DB-Statements e X-DB-Time-Ms, escritos antes do corpo da resposta.
+ *
+ * A contagem é feita na thread da requisição: trabalho assíncrono (ex.: escrita da
+ * exportação em StreamingResponseBody) fica fora do total.
+ */
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-DB-Statements";
+    public static final String TIME_HEADER = "X-DB-Time-Ms";
+
+    static final String STATEMENTS_METRIC = "app.db.statements";
+    static final String TIME_METRIC = "app.db.time";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementMetricsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean headerEnabled;
+    private final int warnThreshold;
+
+    public SqlStatementMetricsFilter(MeterRegistry meterRegistry, boolean headerEnabled, int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.headerEnabled = headerEnabled;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.Stats stats = SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, headerEnabled ? new StatsHeaderResponse(response, stats) : response);
+        } finally {
+            SqlStatementCounter.stop();
+            // Respostas sem corpo (ex.: 204) ainda não foram enviadas
+            if (headerEnabled && !response.isCommitted()) {
+                writeHeaders(response, stats);
+            }
+            record(RequestEndpoints.of(request), stats);
+        }
+    }
+
+    private void record(String endpoint, SqlStatementCounter.Stats stats) {
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .description("Statements SQL executados por requisição")
+                .baseUnit("statements")
+                .tag("endpoint", endpoint)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder(TIME_METRIC)
+                .description("Tempo de execução de statements SQL por requisição")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(stats.getElapsed());
+
+        if (stats.getStatements() > warnThreshold) {
+            log.warn("{} executou {} statements SQL (limite {}): possível N+1",
+                    endpoint, stats.getStatements(), warnThreshold);
+        }
+    }
+
+    private static void writeHeaders(HttpServletResponse response, SqlStatementCounter.Stats stats) {
+        response.setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+        response.setHeader(TIME_HEADER, String.valueOf(stats.getElapsed().toMillis()));
+    }
+
+    /**
+     * Escreve os cabeçalhos no momento em que o corpo começa a ser escrito,
+     * antes de a resposta ser enviada ao cliente.
+     */
+    private static final class StatsHeaderResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatementCounter.Stats stats;
+
+        StatsHeaderResponse(HttpServletResponse response, SqlStatementCounter.Stats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            beforeCommit();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            beforeCommit();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            beforeCommit();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            beforeCommit();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            beforeCommit();
+            super.sendError(sc, msg);
+        }
+
+        private void beforeCommit() {
+            if (!isCommitted()) {
+                writeHeaders((HttpServletResponse) getResponse(), stats);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.gestao.eventos.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mede cada chamada aos casos de uso (interfaces *UseCase do pacote application)
+ * com o timer app.usecase, publicado com histograma de percentis. Apenas os métodos
+ * declarados nas interfaces são medidos, e não os demais métodos públicos dos serviços.
+ *
+ * Tags: usecase (interface), method, endpoint (método HTTP + padrão da rota que
+ * originou a chamada, ou "none" fora de requisições) e outcome (SUCCESS, ERROR ou
+ * CANCELLED). Para casos de uso reativos, o tempo é medido até o término do Mono.
+ */
+@Aspect
+@Component
+public class UseCaseMetricsAspect {
+
+    static final String TIMER_NAME = "app.usecase";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, String> useCaseNames = new ConcurrentHashMap<>();
+
+    public UseCaseMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.gestao.eventos.application.*UseCase.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        String useCase = useCaseName(joinPoint.getTarget().getClass());
+        String method = joinPoint.getSignature().getName();
+        String endpoint = RequestEndpoints.current();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            sample.stop(timer(useCase, method, endpoint, "ERROR"));
+            throw e;
+        }
+
+        if (result instanceof Mono<?> mono) {
+            return mono.doFinally(signal -> sample.stop(timer(useCase, method, endpoint, outcome(signal))));
+        }
+        sample.stop(timer(useCase, method, endpoint, "SUCCESS"));
+        return result;
+    }
+
+    private Timer timer(String useCase, String method, String endpoint, String outcome) {
+        return Timer.builder(TIMER_NAME)
+                .description("Tempo de execução dos casos de uso")
+                .tag("usecase", useCase)
+                .tag("method", method)
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private String useCaseName(Class<?> targetClass) {
+        return useCaseNames.computeIfAbsent(targetClass, type -> Arrays.stream(type.getInterfaces())
+                .map(Class::getSimpleName)
+                .filter(name -> name.endsWith("UseCase"))
+                .findFirst()
+                .orElse(type.getSimpleName()));
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_ERROR -> "ERROR";
+            case CANCEL -> "CANCELLED";
+            default -> "SUCCESS";
+        };
+    }
+}
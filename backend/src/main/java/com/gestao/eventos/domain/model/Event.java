@@ -19,9 +19,6 @@ public class Event {
     
     // Construtor privado para forçar uso dos métodos de criação
     private Event() {
-        this.deleted = false;
-        this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
     }
 
     /**
@@ -35,7 +32,11 @@ public class Event {
      * @throws IllegalArgumentException se os dados forem inválidos
      */
     public static Event create(String title, String description, LocalDateTime eventAt, String location) {
+        LocalDateTime now = LocalDateTime.now();
         Event event = new Event();
+        event.deleted = false;
+        event.createdAt = now;
+        event.updatedAt = now;
         event.setTitle(title);
         event.setDescription(description);
         event.setEventAt(eventAt);
@@ -0,0 +1,21 @@
+package com.gestao.eventos.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Modelo de leitura resumido de um evento, usado nas listagens em cards.
+ * A descrição vem truncada pelo próprio banco, evitando trafegar a coluna inteira.
+ */
+public record EventSummary(
+        Long id,
+        String title,
+        LocalDateTime eventAt,
+        String location,
+        String descriptionExcerpt
+) {
+    
+    /**
+     * Quantidade máxima de caracteres da descrição no resumo.
+     */
+    public static final int DESCRIPTION_EXCERPT_LENGTH = 150;
+}
@@ -0,0 +1,18 @@
+package com.gestao.eventos.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Modelo de leitura de um evento, usado nas listagens.
+ * Projetado diretamente pela consulta (sem entidade gerenciada nem Event intermediário);
+ * não possui regras de negócio nem dados de controle (deleted, updatedAt).
+ */
+public record EventView(
+        Long id,
+        String title,
+        String description,
+        LocalDateTime eventAt,
+        String location,
+        LocalDateTime createdAt
+) {
+}
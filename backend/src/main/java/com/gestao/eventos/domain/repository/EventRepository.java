@@ -1,10 +1,17 @@
 package com.gestao.eventos.domain.repository;
 
 import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.model.EventSummary;
+import com.gestao.eventos.domain.model.EventView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Interface do repositório de eventos no domínio.
@@ -20,6 +27,40 @@ public interface EventRepository {
      */
     Event save(Event event);
     
+    /**
+     * Salva novos eventos em lote (INSERTs agrupados em batches JDBC).
+     * 
+     * @param events Eventos a serem criados
+     * @return Eventos salvos com ID, na mesma ordem recebida
+     */
+    List<Event> saveAll(List<Event> events);
+    
+    /**
+     * Insere novos eventos em massa, sem retornar os registros criados.
+     * Usado na importação de grandes volumes.
+     * 
+     * @param events Eventos a serem criados
+     * @return Quantidade de eventos inseridos
+     */
+    int bulkInsert(List<Event> events);
+    
+    /**
+     * Atualiza os dados de um evento não deletado em uma única operação no banco.
+     * 
+     * @param id ID do evento
+     * @param changes Evento com os novos dados (já validado pelo domínio)
+     * @return Evento atualizado, ou vazio se não existe ou está deletado
+     */
+    Optional<Event> update(Long id, Event changes);
+    
+    /**
+     * Marca um evento não deletado como deletado (soft delete) em uma única operação no banco.
+     * 
+     * @param id ID do evento
+     * @return true se o evento foi marcado; false se não existe ou já estava deletado
+     */
+    boolean markAsDeleted(Long id);
+    
     /**
      * Busca um evento por ID (apenas não deletados).
      * 
@@ -36,6 +77,97 @@ public interface EventRepository {
      */
     Page<Event> findAll(Pageable pageable);
     
+    /**
+     * Lista eventos não deletados com paginação, como modelo de leitura.
+     * Evita materializar o agregado Event para cada linha.
+     * 
+     * @param pageable Configuração de paginação
+     * @return Página de eventos
+     */
+    Page<EventView> findAllViews(Pageable pageable);
+    
+    /**
+     * Lista eventos não deletados com paginação, no formato resumido
+     * (descrição truncada pelo banco).
+     * 
+     * @param pageable Configuração de paginação
+     * @return Página de resumos de eventos
+     */
+    Page<EventSummary> findAllSummaries(Pageable pageable);
+    
+    /**
+     * Lista eventos não deletados com paginação, lendo do banco apenas os campos informados.
+     * 
+     * @param fields Nomes dos campos (id, title, description, eventAt, location, createdAt)
+     * @param pageable Configuração de paginação
+     * @return Página de eventos, cada um como mapa campo -> valor na ordem informada
+     */
+    Page<Map<String, Object>> findAllFields(List<String> fields, Pageable pageable);
+    
+    /**
+     * Lista eventos não deletados cuja data está no período informado, com paginação.
+     * 
+     * @param from Início do período, inclusivo (null para sem limite inicial)
+     * @param to Fim do período, exclusivo (null para sem limite final)
+     * @param pageable Configuração de paginação
+     * @return Página de eventos do período
+     */
+    Page<Event> findAllBetween(LocalDateTime from, LocalDateTime to, Pageable pageable);
+    
+    /**
+     * Lista eventos não deletados sem contagem total (apenas indica se há próxima página).
+     * 
+     * @param pageable Configuração de paginação
+     * @return Slice de eventos
+     */
+    Slice<Event> findAllSlice(Pageable pageable);
+    
+    /**
+     * Busca textual em eventos não deletados (título, descrição e local),
+     * ordenada por relevância.
+     * 
+     * @param query Texto da busca
+     * @param page Número da página (base 0)
+     * @param size Tamanho da página
+     * @return Página de eventos encontrados
+     */
+    Page<Event> search(String query, int page, int size);
+    
+    /**
+     * Conta os eventos não deletados.
+     * 
+     * @return Quantidade de eventos não deletados
+     */
+    long count();
+    
+    /**
+     * Retorna uma estimativa barata da quantidade de eventos não deletados,
+     * baseada nas estatísticas do banco (sem count(*)).
+     * 
+     * @return Estimativa, ou vazio se as estatísticas ainda não foram coletadas
+     */
+    Optional<Long> estimateCount();
+    
+    /**
+     * Lista eventos não deletados por paginação keyset, ordenados por (eventAt, id).
+     * Não executa OFFSET nem count(*).
+     * 
+     * @param afterEventAt Data do último evento da página anterior (null para a primeira página)
+     * @param afterId ID do último evento da página anterior (null para a primeira página)
+     * @param limit Quantidade máxima de eventos
+     * @return Eventos posteriores ao cursor informado
+     */
+    List<Event> findNextPage(LocalDateTime afterEventAt, Long afterId, int limit);
+    
+    /**
+     * Percorre todos os eventos não deletados, ordenados por (eventAt, id), lendo-os
+     * do banco sob demanda (cursor), sem carregar a tabela inteira em memória.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     * 
+     * @return Stream de eventos
+     */
+    Stream<Event> streamAll();
+    
     /**
      * Verifica se um evento existe e não está deletado.
      * 
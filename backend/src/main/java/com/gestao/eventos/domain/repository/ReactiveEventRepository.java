@@ -0,0 +1,36 @@
+package com.gestao.eventos.domain.repository;
+
+import com.gestao.eventos.domain.model.Event;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Interface reativa (somente leitura) do repositório de eventos no domínio.
+ * As implementações não devem bloquear a thread que assina o resultado.
+ */
+public interface ReactiveEventRepository {
+    
+    /**
+     * Busca um evento por ID (apenas não deletados).
+     * 
+     * @param id ID do evento
+     * @return Mono com o evento, ou vazio se não encontrado
+     */
+    Mono<Event> findById(Long id);
+    
+    /**
+     * Lista uma página de eventos não deletados, ordenados por (eventAt, id).
+     * 
+     * @param page Número da página (base 0)
+     * @param size Tamanho da página
+     * @return Eventos da página
+     */
+    Flux<Event> findPage(int page, int size);
+    
+    /**
+     * Conta os eventos não deletados.
+     * 
+     * @return Quantidade de eventos não deletados
+     */
+    Mono<Long> count();
+}
@@ -0,0 +1,8 @@
+-- Migration: Create keyset pagination index
+-- Description: Índice composto parcial (event_at, id) para paginação por cursor (keyset)
+-- em eventos não deletados. Permite que páginas profundas sejam servidas por um
+-- index range scan, sem OFFSET, com o mesmo custo da primeira página.
+
+CREATE INDEX idx_events_live_event_at_id ON events(event_at, id) WHERE deleted = false;
+
+COMMENT ON INDEX idx_events_live_event_at_id IS 'Paginação por cursor (event_at, id) de eventos não deletados';
@@ -0,0 +1,17 @@
+-- Migration: Replace events indexes with partial indexes
+-- Description: Todas as consultas da API filtram deleted = false. O índice sobre o booleano
+-- (baixa cardinalidade) e os índices simples em event_at/created_at não atendem
+-- WHERE deleted = false ORDER BY ..., então são substituídos por índices parciais
+-- que seguem as ordenações usadas pela API:
+--   - (event_at, id): listagem padrão, paginação por cursor e filtros por período
+--     (idx_events_live_event_at_id, criado na V4)
+--   - (created_at, id): ordenação por data de criação (?sort=createdAt)
+-- A busca por ID continua usando a chave primária.
+
+DROP INDEX IF EXISTS idx_events_deleted;
+DROP INDEX IF EXISTS idx_events_event_at;
+DROP INDEX IF EXISTS idx_events_created_at;
+
+CREATE INDEX idx_events_live_created_at_id ON events(created_at, id) WHERE deleted = false;
+
+COMMENT ON INDEX idx_events_live_created_at_id IS 'Ordenação por data de criação de eventos não deletados';
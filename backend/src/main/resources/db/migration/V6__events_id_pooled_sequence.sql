@@ -0,0 +1,10 @@
+-- Migration: Pooled sequence for events.id
+-- Description: Troca a geração de IDs de IDENTITY para SEQUENCE com otimizador "pooled"
+-- do Hibernate (allocationSize = 50). Cada nextval reserva um bloco de 50 IDs,
+-- permitindo que o Hibernate agrupe os INSERTs em lotes JDBC.
+-- O DEFAULT nextval da coluna continua válido para inserções feitas fora do Hibernate.
+
+ALTER SEQUENCE events_id_seq INCREMENT BY 50;
+
+-- O próximo nextval retorna MAX(id) + 50, reservando o bloco (MAX(id) + 1 .. MAX(id) + 50)
+SELECT setval('events_id_seq', GREATEST((SELECT MAX(id) FROM events), 1), true);
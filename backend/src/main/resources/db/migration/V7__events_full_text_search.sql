@@ -0,0 +1,20 @@
+-- Migration: Full-text search on events
+-- Description: Coluna tsvector gerada a partir de title, description e location
+-- (configuração 'portuguese': stemming e stopwords em português), mantida pelo
+-- próprio PostgreSQL em cada INSERT/UPDATE, inclusive nas inserções via COPY.
+-- Pesos para o ranking: título (A) > local (B) > descrição (C).
+-- O índice GIN é parcial, como os demais índices da API, pois a busca
+-- considera apenas eventos não deletados.
+
+ALTER TABLE events
+    ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('portuguese', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('portuguese', coalesce(location, '')), 'B') ||
+        setweight(to_tsvector('portuguese', coalesce(description, '')), 'C')
+    ) STORED;
+
+CREATE INDEX idx_events_live_search_vector ON events USING GIN (search_vector) WHERE deleted = false;
+
+COMMENT ON COLUMN events.search_vector IS 'Vetor de busca textual (title, location, description), gerado automaticamente';
+COMMENT ON INDEX idx_events_live_search_vector IS 'Busca textual em eventos não deletados';
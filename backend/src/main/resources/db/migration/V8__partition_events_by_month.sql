@@ -0,0 +1,88 @@
+-- Migration: Monthly range partitioning of events
+-- Description: Recria events como tabela particionada por event_at (uma partição por mês).
+-- Consultas com filtro de período leem apenas as partições do intervalo (partition pruning),
+-- e meses antigos podem ser retirados da tabela (DETACH) sem DELETE em massa nem inchaço
+-- dos índices. As partições futuras e o arquivamento das antigas são mantidos pela
+-- aplicação (EventPartitionMaintenance); a partição DEFAULT recebe linhas de meses
+-- ainda sem partição.
+--
+-- A chave primária de uma tabela particionada precisa conter a chave de partição,
+-- então passa a ser (id, event_at). A unicidade de id continua garantida pela sequência
+-- events_id_seq, e as buscas por ID usam o índice da chave em cada partição.
+
+ALTER TABLE events RENAME TO events_unpartitioned;
+ALTER INDEX events_pkey RENAME TO events_unpartitioned_pkey;
+ALTER INDEX idx_events_live_event_at_id RENAME TO idx_events_unpartitioned_live_event_at_id;
+ALTER INDEX idx_events_live_created_at_id RENAME TO idx_events_unpartitioned_live_created_at_id;
+ALTER INDEX idx_events_live_search_vector RENAME TO idx_events_unpartitioned_live_search_vector;
+
+-- A sequência pertence à coluna antiga e seria removida com ela
+ALTER SEQUENCE events_id_seq OWNED BY NONE;
+
+CREATE TABLE events (
+    id BIGINT NOT NULL DEFAULT nextval('events_id_seq'),
+    title VARCHAR(100) NOT NULL,
+    description VARCHAR(1000),
+    event_at TIMESTAMP NOT NULL,
+    location VARCHAR(200),
+    deleted BOOLEAN DEFAULT FALSE NOT NULL,
+    created_at TIMESTAMP DEFAULT NOW(),
+    updated_at TIMESTAMP DEFAULT NOW(),
+    search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('portuguese', coalesce(title, '')), 'A') ||
+            setweight(to_tsvector('portuguese', coalesce(location, '')), 'B') ||
+            setweight(to_tsvector('portuguese', coalesce(description, '')), 'C')
+        ) STORED,
+    CONSTRAINT events_pkey PRIMARY KEY (id, event_at)
+) PARTITION BY RANGE (event_at);
+
+ALTER SEQUENCE events_id_seq OWNED BY events.id;
+
+-- Partições mensais do mês do evento mais antigo até 12 meses à frente (nomes events_pAAAA_MM)
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', LEAST(
+        COALESCE((SELECT MIN(event_at) FROM events_unpartitioned), NOW()), NOW()))::DATE;
+    last_month DATE := (date_trunc('month', NOW()) + INTERVAL '12 months')::DATE;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF events FOR VALUES FROM (%L) TO (%L)',
+                'events_p' || to_char(month_start, 'YYYY_MM'),
+                month_start,
+                (month_start + INTERVAL '1 month')::DATE);
+        month_start := (month_start + INTERVAL '1 month')::DATE;
+    END LOOP;
+END $$;
+
+CREATE TABLE events_default PARTITION OF events DEFAULT;
+
+-- Os índices criados na tabela particionada são replicados em cada partição, atual e futura
+CREATE INDEX idx_events_live_event_at_id ON events(event_at, id) WHERE deleted = false;
+CREATE INDEX idx_events_live_created_at_id ON events(created_at, id) WHERE deleted = false;
+CREATE INDEX idx_events_live_search_vector ON events USING GIN (search_vector) WHERE deleted = false;
+
+INSERT INTO events (id, title, description, event_at, location, deleted, created_at, updated_at)
+SELECT id, title, description, event_at, location, deleted, created_at, updated_at
+  FROM events_unpartitioned;
+
+DROP TABLE events_unpartitioned;
+
+-- Destino das partições arquivadas (fora da tabela events e de seus índices)
+CREATE SCHEMA IF NOT EXISTS events_archive;
+
+COMMENT ON TABLE events IS 'Tabela de eventos do sistema de gestão, particionada por mês de event_at';
+COMMENT ON COLUMN events.id IS 'Identificador único do evento (sequência events_id_seq)';
+COMMENT ON COLUMN events.title IS 'Título do evento (máximo 100 caracteres)';
+COMMENT ON COLUMN events.description IS 'Descrição detalhada do evento (máximo 1000 caracteres)';
+COMMENT ON COLUMN events.event_at IS 'Data e hora do evento (chave de partição)';
+COMMENT ON COLUMN events.location IS 'Local do evento (máximo 200 caracteres)';
+COMMENT ON COLUMN events.deleted IS 'Flag para soft delete (não remove fisicamente)';
+COMMENT ON COLUMN events.created_at IS 'Data e hora de criação do registro';
+COMMENT ON COLUMN events.updated_at IS 'Data e hora da última atualização do registro';
+COMMENT ON COLUMN events.search_vector IS 'Vetor de busca textual (title, location, description), gerado automaticamente';
+COMMENT ON TABLE events_default IS 'Eventos de meses ainda sem partição; movidos ao criar a partição do mês';
+COMMENT ON INDEX idx_events_live_event_at_id IS 'Paginação por cursor (event_at, id) de eventos não deletados';
+COMMENT ON INDEX idx_events_live_created_at_id IS 'Ordenação por data de criação de eventos não deletados';
+COMMENT ON INDEX idx_events_live_search_vector IS 'Busca textual em eventos não deletados';
+COMMENT ON SCHEMA events_archive IS 'Partições de events retiradas da tabela pela manutenção (meses antigos)';
@@ -0,0 +1,26 @@
+-- Migration: Purge of soft-deleted events
+-- Description: Suporte à rotina de expurgo (DeletedEventPurger), que remove da tabela
+-- events os eventos excluídos (deleted = true) há mais tempo que a retenção.
+--   - Índice parcial (updated_at, id) apenas das linhas excluídas: o expurgo percorre
+--     essas linhas em lotes, por cursor, na ordem da exclusão (o soft delete grava
+--     updated_at). O índice só contém as linhas ainda não expurgadas.
+--   - Tabela events_archive.deleted_events: cópia das linhas expurgadas, quando o
+--     arquivamento está ativo.
+
+CREATE INDEX idx_events_deleted_updated_at_id ON events(updated_at, id) WHERE deleted = true;
+
+CREATE TABLE events_archive.deleted_events (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(100) NOT NULL,
+    description VARCHAR(1000),
+    event_at TIMESTAMP NOT NULL,
+    location VARCHAR(200),
+    created_at TIMESTAMP,
+    deleted_at TIMESTAMP,
+    purged_at TIMESTAMP DEFAULT NOW() NOT NULL
+);
+
+COMMENT ON INDEX idx_events_deleted_updated_at_id IS 'Expurgo por cursor (updated_at, id) de eventos excluídos';
+COMMENT ON TABLE events_archive.deleted_events IS 'Eventos excluídos removidos da tabela events pelo expurgo';
+COMMENT ON COLUMN events_archive.deleted_events.deleted_at IS 'Data e hora da exclusão (updated_at no soft delete)';
+COMMENT ON COLUMN events_archive.deleted_events.purged_at IS 'Data e hora do expurgo';
@@ -0,0 +1,195 @@
+package com.gestao.eventos.adapters.inbound.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestao.eventos.application.UpdateEventUseCase;
+import com.gestao.eventos.application.dto.EventRequest;
+import com.gestao.eventos.config.CacheConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static com.gestao.eventos.adapters.inbound.rest.SqlStatementMatchers.statements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração do cache de eventos por ID.
+ * Verifica que a segunda busca não vai ao banco e que atualização e exclusão
+ * removem do cache apenas o evento alterado, e somente após o commit
+ * (TransactionAwareCacheManagerProxy em CacheConfig).
+ *
+ * Sem transação de teste: o commit é o que aplica a remoção do cache.
+ * Os dados são gravados via JDBC e removidos ao final.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Cache de eventos - Testes de Integração")
+class EventCacheIntegrationTest {
+
+    private static final String TITLE_PREFIX = "Cache de eventos ";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private UpdateEventUseCase updateEventUseCase;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Cache cache;
+    private Long eventId;
+    private Long otherEventId;
+
+    @BeforeEach
+    void setUp() {
+        cache = cacheManager.getCache(CacheConfig.EVENTS_CACHE);
+        cache.clear();
+        eventId = insertEvent(TITLE_PREFIX + "evento");
+        otherEventId = insertEvent(TITLE_PREFIX + "outro evento");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM events WHERE title LIKE ?", TITLE_PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("Segunda busca por ID deve ser atendida pelo cache, sem statements")
+    void segundaBuscaDeveUsarCache() throws Exception {
+        mockMvc.perform(get("/api/events/{id}", eventId))
+                .andExpect(status().isOk())
+                .andExpect(statements(1));
+
+        mockMvc.perform(get("/api/events/{id}", eventId))
+                .andExpect(status().isOk())
+                .andExpect(statements(0))
+                .andExpect(jsonPath("$.title").value(TITLE_PREFIX + "evento"));
+    }
+
+    @Test
+    @DisplayName("PUT deve remover do cache apenas o evento atualizado")
+    void atualizacaoDeveRemoverApenasOEventoDoCache() throws Exception {
+        // Given
+        loadIntoCache(eventId, otherEventId);
+        EventRequest request = new EventRequest(TITLE_PREFIX + "atualizado", null,
+                LocalDateTime.now().plusDays(2), "Local");
+
+        // When
+        mockMvc.perform(put("/api/events/{id}", eventId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // Then
+        assertThat(cache.get(eventId)).isNull();
+        assertThat(cache.get(otherEventId)).isNotNull();
+        mockMvc.perform(get("/api/events/{id}", eventId))
+                .andExpect(status().isOk())
+                .andExpect(statements(1))
+                .andExpect(jsonPath("$.title").value(TITLE_PREFIX + "atualizado"));
+    }
+
+    @Test
+    @DisplayName("DELETE deve remover do cache apenas o evento excluído")
+    void exclusaoDeveRemoverApenasOEventoDoCache() throws Exception {
+        // Given
+        loadIntoCache(eventId, otherEventId);
+
+        // When
+        mockMvc.perform(delete("/api/events/{id}", eventId))
+                .andExpect(status().isNoContent());
+
+        // Then
+        assertThat(cache.get(eventId)).isNull();
+        assertThat(cache.get(otherEventId)).isNotNull();
+        mockMvc.perform(get("/api/events/{id}", eventId))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Atualização deve remover o evento do cache somente após o commit")
+    void atualizacaoDeveRemoverDoCacheAposCommit() throws Exception {
+        // Given
+        loadIntoCache(eventId);
+        EventRequest request = new EventRequest(TITLE_PREFIX + "atualizado", null,
+                LocalDateTime.now().plusDays(2), "Local");
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            updateEventUseCase.update(eventId, request);
+
+            // Then - ainda em cache enquanto a transação não foi confirmada
+            assertThat(cache.get(eventId)).isNotNull();
+        });
+
+        // Then
+        assertThat(cache.get(eventId)).isNull();
+    }
+
+    @Test
+    @DisplayName("Atualização desfeita (rollback) não deve remover o evento do cache")
+    void atualizacaoDesfeitaNaoDeveRemoverDoCache() throws Exception {
+        // Given
+        loadIntoCache(eventId);
+        EventRequest request = new EventRequest(TITLE_PREFIX + "desfeito", null,
+                LocalDateTime.now().plusDays(2), "Local");
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            updateEventUseCase.update(eventId, request);
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertThat(cache.get(eventId)).isNotNull();
+        mockMvc.perform(get("/api/events/{id}", eventId))
+                .andExpect(status().isOk())
+                .andExpect(statements(0))
+                .andExpect(jsonPath("$.title").value(TITLE_PREFIX + "evento"));
+        assertThat(jdbcTemplate.queryForObject("SELECT title FROM events WHERE id = ?", String.class, eventId))
+                .isEqualTo(TITLE_PREFIX + "evento");
+    }
+
+    private void loadIntoCache(Long... ids) throws Exception {
+        for (Long id : ids) {
+            mockMvc.perform(get("/api/events/{id}", id))
+                    .andExpect(status().isOk());
+            assertThat(cache.get(id)).isNotNull();
+        }
+    }
+
+    private Long insertEvent(String title) {
+        LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO events (title, description, event_at, location, deleted, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, false, ?, ?) RETURNING id",
+                Long.class, title, "Descrição", now.plusDays(1), "Local", now, now);
+    }
+}
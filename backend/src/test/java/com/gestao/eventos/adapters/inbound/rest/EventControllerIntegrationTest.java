@@ -140,7 +140,125 @@ class EventControllerIntegrationTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.content").isArray())
                 .andExpect(jsonPath("$.totalElements").exists())
-                .andExpect(jsonPath("$.pageable").exists());
+                .andExpect(jsonPath("$.totalPages").exists())
+                .andExpect(jsonPath("$.page").value(0))
+                .andExpect(jsonPath("$.size").value(10))
+                .andExpect(jsonPath("$.pageable").doesNotExist())
+                .andExpect(jsonPath("$.sort").doesNotExist());
     }
-}
 
+    @Test
+    @DisplayName("Deve buscar eventos por texto ignorando deletados")
+    void deveBuscarEventosPorTexto() throws Exception {
+        // Given - dois eventos, um deles deletado
+        EventRequest ativo = new EventRequest(
+                "Palestra sobre Arquitetura Hexagonal",
+                "Portas e adaptadores na prática",
+                LocalDateTime.now().plusDays(1),
+                "Auditório"
+        );
+        EventRequest deletado = new EventRequest(
+                "Oficina de Arquitetura Hexagonal",
+                null,
+                LocalDateTime.now().plusDays(2),
+                "Sala 2"
+        );
+
+        mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ativo)))
+                .andExpect(status().isCreated());
+        String deletadoResponse = mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(deletado)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        Long deletadoId = objectMapper.readValue(deletadoResponse, EventResponse.class).id();
+        mockMvc.perform(delete("/api/events/{id}", deletadoId))
+                .andExpect(status().isNoContent());
+
+        // When/Then - "arquiteturas" encontra "Arquitetura" pelo stemming em português
+        mockMvc.perform(get("/api/events/search")
+                        .param("q", "arquiteturas hexagonais"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("Palestra sobre Arquitetura Hexagonal"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 ao buscar sem texto")
+    void deveRetornarErro400AoBuscarSemTexto() throws Exception {
+        mockMvc.perform(get("/api/events/search"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve listar apenas eventos do período informado")
+    void deveListarEventosDoPeriodo() throws Exception {
+        // Given - eventos dentro e fora do período
+        LocalDateTime inicio = LocalDateTime.now().plusYears(5).withNano(0);
+        for (int dias : new int[] {0, 10, 40}) {
+            EventRequest request = new EventRequest("Evento dia " + dias, null, inicio.plusDays(dias), "Local");
+            mockMvc.perform(post("/api/events")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        // When/Then - "to" é exclusivo
+        mockMvc.perform(get("/api/events")
+                        .param("from", inicio.toString())
+                        .param("to", inicio.plusDays(40).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andExpect(jsonPath("$.content[0].title").value("Evento dia 0"))
+                .andExpect(jsonPath("$.content[1].title").value("Evento dia 10"));
+
+        mockMvc.perform(get("/api/events")
+                        .param("from", inicio.plusDays(1).toString())
+                        .param("to", inicio.toString()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve listar no formato resumido e com seleção de campos")
+    void deveListarResumoECampos() throws Exception {
+        // Given
+        LocalDateTime eventAt = LocalDateTime.now().plusYears(6);
+        EventRequest request = new EventRequest("Evento resumido", "D".repeat(1000), eventAt, "Local resumo");
+        mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        // When/Then - resumo: descrição truncada e sem createdAt
+        mockMvc.perform(get("/api/events")
+                        .param("view", "summary")
+                        .param("sort", "eventAt,desc")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Evento resumido"))
+                .andExpect(jsonPath("$.content[0].descriptionExcerpt").value("D".repeat(150)))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.content[0].createdAt").doesNotExist());
+
+        // When/Then - campos: apenas id e os solicitados
+        mockMvc.perform(get("/api/events")
+                        .param("fields", "title,location")
+                        .param("sort", "eventAt,desc")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").exists())
+                .andExpect(jsonPath("$.content[0].title").value("Evento resumido"))
+                .andExpect(jsonPath("$.content[0].location").value("Local resumo"))
+                .andExpect(jsonPath("$.content[0].description").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").exists());
+
+        mockMvc.perform(get("/api/events").param("fields", "deleted"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/events").param("view", "compact"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,111 @@
+package com.gestao.eventos.adapters.inbound.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestao.eventos.application.dto.EventRequest;
+import com.gestao.eventos.config.CacheConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static com.gestao.eventos.adapters.inbound.rest.SqlStatementMatchers.statements;
+import static com.gestao.eventos.adapters.inbound.rest.SqlStatementMatchers.statementsAtMost;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Orçamento de statements SQL por endpoint.
+ * Fixa quantas consultas cada requisição pode executar, para que uma alteração
+ * no repositório (N+1, leitura antes de escrita, contagem extra) quebre o teste.
+ *
+ * Sem transação de teste: com ela, o flush pendente de escritas anteriores seria
+ * contado na requisição seguinte. Os dados são gravados via JDBC e removidos ao final.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Statements SQL por requisição - Testes de Integração")
+class EventSqlStatementCountIntegrationTest {
+
+    private static final String TITLE_PREFIX = "Orçamento SQL ";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Long eventId;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.EVENTS_CACHE).clear();
+        LocalDateTime now = LocalDateTime.now();
+        eventId = jdbcTemplate.queryForObject(
+                "INSERT INTO events (title, description, event_at, location, deleted, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, false, ?, ?) RETURNING id",
+                Long.class, TITLE_PREFIX + "evento", "Descrição", now.plusDays(1), "Local", now, now);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM events WHERE title LIKE ?", TITLE_PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("GET /api/events/{id} deve executar 1 statement e nenhum com cache")
+    void buscaPorIdDeveExecutarUmStatement() throws Exception {
+        mockMvc.perform(get("/api/events/{id}", eventId))
+                .andExpect(status().isOk())
+                .andExpect(statements(1));
+
+        mockMvc.perform(get("/api/events/{id}", eventId))
+                .andExpect(status().isOk())
+                .andExpect(statements(0));
+    }
+
+    @Test
+    @DisplayName("GET /api/events deve executar no máximo 2 statements (página + contagem)")
+    void listagemDeveExecutarNoMaximoDoisStatements() throws Exception {
+        mockMvc.perform(get("/api/events").param("size", "50"))
+                .andExpect(status().isOk())
+                .andExpect(statementsAtMost(2));
+    }
+
+    @Test
+    @DisplayName("PUT /api/events/{id} deve executar 1 statement")
+    void atualizacaoDeveExecutarUmStatement() throws Exception {
+        EventRequest request = new EventRequest(TITLE_PREFIX + "atualizado", null,
+                LocalDateTime.now().plusDays(2), "Local");
+
+        mockMvc.perform(put("/api/events/{id}", eventId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(statements(1));
+    }
+
+    @Test
+    @DisplayName("DELETE /api/events/{id} deve executar 1 statement")
+    void exclusaoDeveExecutarUmStatement() throws Exception {
+        mockMvc.perform(delete("/api/events/{id}", eventId))
+                .andExpect(status().isNoContent())
+                .andExpect(statements(1));
+    }
+}
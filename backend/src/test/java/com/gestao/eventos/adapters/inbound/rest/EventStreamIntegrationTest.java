@@ -0,0 +1,136 @@
+package com.gestao.eventos.adapters.inbound.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestao.eventos.application.dto.EventRequest;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração do stream de alterações (GET /api/events/stream).
+ *
+ * Sem transação de teste: as alterações só são enviadas após o commit.
+ * Os eventos criados são removidos ao final.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Stream de alterações de eventos - Testes de Integração")
+class EventStreamIntegrationTest {
+
+    private static final String TITLE_PREFIX = "Stream SSE ";
+    private static final Pattern READY_ID = Pattern.compile("id:([^\\n]+)\\nevent:ready");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM events WHERE title LIKE ?", TITLE_PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("Deve enviar a criação aos clientes conectados e reenviá-la na reconexão com Last-Event-ID")
+    void deveEnviarCriacaoEReenviarNaReconexao() throws Exception {
+        // Given - cliente conectado
+        MvcResult stream = mockMvc.perform(get("/api/events/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        Matcher ready = READY_ID.matcher(awaitContent(stream, "event:ready"));
+        assertThat(ready.find()).isTrue();
+        String lastEventId = ready.group(1);
+
+        // When
+        EventRequest request = new EventRequest(TITLE_PREFIX + "criado", "Descrição",
+                LocalDateTime.now().plusDays(1), "Local");
+        mockMvc.perform(post("/api/events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+
+        // Then
+        assertThat(awaitContent(stream, "event:created"))
+                .contains("\"type\":\"CREATED\"")
+                .contains(TITLE_PREFIX + "criado");
+
+        MvcResult resumed = mockMvc.perform(get("/api/events/stream").header("Last-Event-ID", lastEventId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(awaitContent(resumed, "event:created"))
+                .contains(TITLE_PREFIX + "criado")
+                .doesNotContain("event:reset");
+    }
+
+    @Test
+    @DisplayName("Deve enviar reset quando o Last-Event-ID não pode ser retomado")
+    void deveEnviarResetParaIdDesconhecido() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/events/stream").param("lastEventId", "outra-instancia:42"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(awaitContent(stream, "event:reset")).doesNotContain("event:created");
+    }
+
+    @Test
+    @DisplayName("Deve encerrar o stream sem resposta de erro quando a conexão atinge o timeout")
+    void deveEncerrarStreamNoTimeout() throws Exception {
+        // Given
+        MvcResult stream = mockMvc.perform(get("/api/events/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        awaitContent(stream, "event:ready");
+
+        // When - timeout da resposta assíncrona no container
+        MockAsyncContext asyncContext = (MockAsyncContext) stream.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        // Then
+        mockMvc.perform(asyncDispatch(stream))
+                .andExpect(status().isOk());
+        assertThat(stream.getResponse().getContentAsString()).doesNotContain("Erro interno");
+    }
+
+    /**
+     * Aguarda o trecho no corpo da resposta, escrito pela thread de despacho do stream.
+     */
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            String content = result.getResponse().getContentAsString();
+            if (content.contains(expected)) {
+                return content;
+            }
+            Thread.sleep(20);
+        }
+        return fail("Trecho não recebido no stream: " + expected);
+    }
+}
@@ -0,0 +1,81 @@
+package com.gestao.eventos.adapters.inbound.rest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.gestao.eventos.application.dto.EventResponse;
+import com.gestao.eventos.application.dto.PageResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para PageResponseJsonSerializer.
+ * Testa que o JSON escrito é o mesmo da serialização padrão do record, sem os metadados de PageImpl.
+ */
+@DisplayName("PageResponseJsonSerializer - Testes Unitários")
+class PageResponseJsonSerializerTest {
+
+    private ObjectMapper defaultMapper;
+    private ObjectMapper streamingMapper;
+
+    @BeforeEach
+    void setUp() {
+        defaultMapper = Jackson2ObjectMapperBuilder.json().build();
+        streamingMapper = Jackson2ObjectMapperBuilder.json()
+                .modules(new SimpleModule().addSerializer(new PageResponseJsonSerializer()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve escrever o mesmo JSON da serialização padrão do record")
+    void deveEscreverMesmoJsonDoRecord() throws Exception {
+        // Given
+        LocalDateTime eventAt = LocalDateTime.of(2099, 1, 1, 10, 0);
+        List<EventResponse> content = Arrays.asList(
+                new EventResponse(1L, "Workshop", "Descrição", eventAt, "Sala 101", eventAt.minusDays(10)),
+                null,
+                new EventResponse(2L, "Palestra", null, eventAt.plusDays(1), "Auditório", eventAt.minusDays(5)));
+        PageResponse<EventResponse> page = new PageResponse<>(content, 2, 3, 9, 3);
+
+        // When
+        String json = streamingMapper.writeValueAsString(page);
+
+        // Then
+        assertThat(json).isEqualTo(defaultMapper.writeValueAsString(page));
+        assertThat(json).startsWith("{\"content\":[").endsWith("\"page\":2,\"size\":3,\"totalElements\":9,\"totalPages\":3}");
+    }
+
+    @Test
+    @DisplayName("Deve omitir os metadados de PageImpl (pageable, sort, first/last/empty)")
+    void deveOmitirMetadadosDePageImpl() throws Exception {
+        // Given
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("id", 1L);
+        fields.put("title", "Workshop");
+        PageImpl<Map<String, Object>> springPage = new PageImpl<>(
+                List.of(fields), PageRequest.of(0, 20, Sort.by("eventAt", "id")), 1);
+
+        // When
+        JsonNode json = streamingMapper.valueToTree(PageResponse.of(springPage));
+
+        // Then
+        assertThat(json.fieldNames()).toIterable()
+                .containsExactly("content", "page", "size", "totalElements", "totalPages");
+        assertThat(json.get("content").get(0).get("title").asText()).isEqualTo("Workshop");
+        assertThat(json.get("size").asInt()).isEqualTo(20);
+        assertThat(json.get("totalPages").asInt()).isEqualTo(1);
+    }
+}
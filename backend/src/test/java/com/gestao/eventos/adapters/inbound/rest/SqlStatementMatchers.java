@@ -0,0 +1,50 @@
+package com.gestao.eventos.adapters.inbound.rest;
+
+import com.gestao.eventos.config.SqlStatementMetricsFilter;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Asserções MockMvc sobre a quantidade de statements SQL executados pela requisição,
+ * lida do cabeçalho X-DB-Statements (app.db.statement-metrics.header-enabled=true
+ * no perfil test).
+ *
+ * Exemplo: {@code .andExpect(SqlStatementMatchers.statements(1))}
+ */
+public final class SqlStatementMatchers {
+
+    private SqlStatementMatchers() {
+    }
+
+    /**
+     * A requisição deve executar exatamente a quantidade informada de statements.
+     */
+    public static ResultMatcher statements(int expected) {
+        return result -> assertThat(statementCount(result))
+                .as("Statements SQL de %s", describe(result))
+                .isEqualTo(expected);
+    }
+
+    /**
+     * A requisição deve executar no máximo a quantidade informada de statements.
+     */
+    public static ResultMatcher statementsAtMost(int max) {
+        return result -> assertThat(statementCount(result))
+                .as("Statements SQL de %s", describe(result))
+                .isLessThanOrEqualTo(max);
+    }
+
+    private static int statementCount(MvcResult result) {
+        String header = result.getResponse().getHeader(SqlStatementMetricsFilter.STATEMENTS_HEADER);
+        assertThat(header)
+                .as("Cabeçalho %s ausente", SqlStatementMetricsFilter.STATEMENTS_HEADER)
+                .isNotNull();
+        return Integer.parseInt(header);
+    }
+
+    private static String describe(MvcResult result) {
+        return result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+    }
+}
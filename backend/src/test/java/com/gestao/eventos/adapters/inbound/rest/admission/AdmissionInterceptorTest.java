@@ -0,0 +1,122 @@
+package com.gestao.eventos.adapters.inbound.rest.admission;
+
+import com.gestao.eventos.config.AdmissionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para AdmissionInterceptor.
+ * Testa o limite de taxa por cliente e endpoint e os bulkheads de leitura e escrita.
+ */
+@DisplayName("AdmissionInterceptor - Testes Unitários")
+class AdmissionInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdmissionInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AdmissionProperties properties = new AdmissionProperties(
+                "X-API-Key", Set.of("cliente-a", "cliente-b"), 100, Duration.ofMinutes(1),
+                new AdmissionProperties.Limits(1000, 1000, 2, Duration.ZERO),
+                new AdmissionProperties.Limits(0.001, 2, 1, Duration.ZERO),
+                Map.of("POST /api/events/import", new AdmissionProperties.RateLimit(0.001, 1)));
+        interceptor = new AdmissionInterceptor(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Deve recusar com 429 quando o cliente esgota os tokens, sem afetar outros clientes")
+    void deveLimitarTaxaPorCliente() {
+        // Given - burst de escrita = 2
+        admitAndComplete(request("PUT", "/api/events/{id}", "cliente-a"));
+        admitAndComplete(request("PUT", "/api/events/{id}", "cliente-a"));
+
+        // When/Then
+        assertThatThrownBy(() -> admit(request("PUT", "/api/events/{id}", "cliente-a")))
+                .isInstanceOfSatisfying(AdmissionRejectedException.class, e -> {
+                    assertThat(e.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                    assertThat(e.getRetryAfterSeconds()).isPositive();
+                });
+        admitAndComplete(request("PUT", "/api/events/{id}", "cliente-b"));
+        assertThat(meterRegistry.counter("app.admission.rejected", "category", "write", "reason", "rate_limit").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve identificar pelo IP o cliente com chave de API desconhecida")
+    void deveIgnorarChaveDesconhecida() {
+        // Given - chaves aleatórias do mesmo IP dividem o balde do IP (burst de escrita = 2)
+        admitAndComplete(request("PUT", "/api/events/{id}", "aleatoria-1"));
+        admitAndComplete(request("PUT", "/api/events/{id}", "aleatoria-2"));
+
+        // When/Then
+        assertThatThrownBy(() -> admit(request("PUT", "/api/events/{id}", "aleatoria-3")))
+                .isInstanceOf(AdmissionRejectedException.class);
+        admitAndComplete(request("PUT", "/api/events/{id}", "cliente-a"));
+        assertThat(meterRegistry.get("app.admission.clients").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve aplicar a taxa configurada para o endpoint")
+    void deveAplicarTaxaDoEndpoint() {
+        // Given - burst do endpoint de importação = 1
+        admitAndComplete(request("POST", "/api/events/import", "cliente-a"));
+
+        // When/Then
+        assertThatThrownBy(() -> admit(request("POST", "/api/events/import", "cliente-a")))
+                .isInstanceOf(AdmissionRejectedException.class);
+        admitAndComplete(request("POST", "/api/events", "cliente-a"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar com 503 quando o bulkhead de escrita está cheio, sem bloquear leituras")
+    void deveIsolarEscritasNoBulkhead() throws Exception {
+        // Given - uma escrita em andamento ocupa a única vaga de escrita
+        MockHttpServletRequest slowWrite = request("POST", "/api/events", "cliente-a");
+        admit(slowWrite);
+
+        // When/Then
+        assertThatThrownBy(() -> admit(request("PUT", "/api/events/{id}", "cliente-b")))
+                .isInstanceOfSatisfying(AdmissionRejectedException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+        admitAndComplete(request("GET", "/api/events", "cliente-b"));
+        assertThat(meterRegistry.get("app.admission.bulkhead.in-use").tag("category", "write").gauge().value())
+                .isEqualTo(1);
+
+        // Vaga devolvida ao fim da requisição, uma única vez
+        interceptor.afterCompletion(slowWrite, new MockHttpServletResponse(), null, null);
+        interceptor.afterCompletion(slowWrite, new MockHttpServletResponse(), null, null);
+        assertThat(meterRegistry.get("app.admission.bulkhead.in-use").tag("category", "write").gauge().value())
+                .isZero();
+    }
+
+    private void admit(MockHttpServletRequest request) {
+        assertThat(interceptor.preHandle(request, new MockHttpServletResponse(), null)).isTrue();
+    }
+
+    private void admitAndComplete(MockHttpServletRequest request) {
+        admit(request);
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+    }
+
+    private static MockHttpServletRequest request(String method, String pattern, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, pattern);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        request.addHeader("X-API-Key", apiKey);
+        return request;
+    }
+}
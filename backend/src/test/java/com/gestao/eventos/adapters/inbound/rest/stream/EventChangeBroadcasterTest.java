@@ -0,0 +1,153 @@
+package com.gestao.eventos.adapters.inbound.rest.stream;
+
+import com.gestao.eventos.application.dto.EventChange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * Testes unitários para EventChangeBroadcaster.
+ * Testa o isolamento de clientes lentos: fila por cliente e desconexão
+ * quando a fila enche ou o envio passa do prazo.
+ */
+@DisplayName("EventChangeBroadcaster - Testes Unitários")
+class EventChangeBroadcasterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventChangeBroadcaster broadcaster;
+    private final CountDownLatch releaseSlowClient = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // Fila de 2 mensagens por cliente e prazo de envio de 100ms
+        broadcaster = new EventChangeBroadcaster(meterRegistry, 10, 10, Duration.ofMinutes(1),
+                2, Duration.ofMillis(100));
+        broadcaster.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlowClient.countDown();
+        broadcaster.stop();
+    }
+
+    @Test
+    @DisplayName("Cliente lento não deve atrasar o envio aos demais clientes")
+    void clienteLentoNaoDeveAtrasarOsDemais() {
+        // Given - o cliente lento fica parado na primeira escrita
+        RecordingEmitter fastClient = new RecordingEmitter();
+        broadcaster.register(new SlowEmitter(), null);
+        broadcaster.register(fastClient, null);
+        await(() -> broadcaster.getClientCount() == 2);
+
+        // When
+        broadcaster.onChange(EventChange.deleted(1L));
+
+        // Then
+        await(() -> fastClient.content().contains("event:deleted"));
+    }
+
+    @Test
+    @DisplayName("Deve desconectar o cliente cuja fila enche, mantendo os demais")
+    void deveDesconectarClienteComFilaCheia() {
+        // Given
+        RecordingEmitter fastClient = new RecordingEmitter();
+        broadcaster.register(new SlowEmitter(), null);
+        broadcaster.register(fastClient, null);
+        await(() -> broadcaster.getClientCount() == 2);
+
+        // When - mais alterações do que cabem na fila do cliente parado
+        for (int count = 1; count <= 3; count++) {
+            broadcaster.onChange(EventChange.deleted((long) count));
+            int expected = count;
+            await(() -> fastClient.content().split("event:deleted", -1).length == expected + 1);
+        }
+
+        // Then
+        await(() -> broadcaster.getClientCount() == 1);
+        assertThat(meterRegistry.counter("app.stream.clients.dropped", "reason", "queue_full").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve desconectar o cliente com envio parado além do prazo")
+    void deveDesconectarClienteComEnvioParado() throws InterruptedException {
+        // Given
+        broadcaster.register(new SlowEmitter(), null);
+        broadcaster.register(new RecordingEmitter(), null);
+        await(() -> broadcaster.getClientCount() == 2);
+        Thread.sleep(200);
+
+        // When
+        broadcaster.heartbeat();
+
+        // Then
+        await(() -> broadcaster.getClientCount() == 1);
+        assertThat(meterRegistry.counter("app.stream.clients.dropped", "reason", "send_timeout").count())
+                .isEqualTo(1);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        fail("Condição não atingida no prazo");
+    }
+
+    /**
+     * Emitter que guarda o texto das mensagens enviadas.
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final StringBuffer content = new StringBuffer();
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                content.append(data.getData());
+            }
+        }
+
+        String content() {
+            return content.toString();
+        }
+    }
+
+    /**
+     * Emitter cuja escrita fica parada até o fim do teste (ex.: janela TCP do cliente cheia).
+     */
+    private class SlowEmitter extends SseEmitter {
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                releaseSlowClient.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.gestao.eventos.adapters.inbound.rest.transfer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.gestao.eventos.application.dto.EventResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para EventExportWriter.
+ * Testa a escrita incremental nos formatos NDJSON e CSV.
+ */
+@DisplayName("EventExportWriter - Testes Unitários")
+class EventExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final EventResponse event = new EventResponse(
+            1L,
+            "Workshop, \"Spring\"",
+            null,
+            LocalDateTime.of(2030, 1, 10, 9, 0),
+            "Sala 101",
+            LocalDateTime.of(2029, 12, 1, 8, 30)
+    );
+
+    @Test
+    @DisplayName("Deve escrever um objeto JSON por linha no formato NDJSON")
+    void deveEscreverNdjson() throws Exception {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        EventExportWriter writer = new EventExportWriter(DataFormat.NDJSON, output, objectMapper);
+
+        // When
+        writer.write(event);
+        writer.write(event);
+        writer.finish();
+
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], EventResponse.class)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("Deve escrever cabeçalho e aplicar escape de aspas e vírgulas no CSV")
+    void deveEscreverCsvComEscape() throws Exception {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        EventExportWriter writer = new EventExportWriter(DataFormat.CSV, output, objectMapper);
+
+        // When
+        writer.write(event);
+        writer.finish();
+
+        // Then
+        assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,title,description,eventAt,location,createdAt\n"
+                        + "1,\"Workshop, \"\"Spring\"\"\",,2030-01-10T09:00,Sala 101,2029-12-01T08:30\n");
+    }
+}
@@ -0,0 +1,14 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Contrato do repositório reativo no perfil padrão (adaptador JPA via boundedElastic).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("BlockingReactiveEventRepository - Testes de Contrato")
+class BlockingReactiveEventRepositoryIntegrationTest extends ReactiveEventRepositoryContract {
+}
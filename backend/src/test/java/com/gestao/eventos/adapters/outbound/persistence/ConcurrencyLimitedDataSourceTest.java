@@ -0,0 +1,74 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ConcurrencyLimitedDataSource.
+ * Testa a aquisição e a devolução das permissões de conexão.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConcurrencyLimitedDataSource - Testes Unitários")
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(targetDataSource, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Deve recusar conexão além do limite e liberar a permissão no close")
+    void deveLimitarELiberarNoClose() throws SQLException {
+        // Given
+        when(targetDataSource.getConnection()).thenReturn(connection);
+
+        // When
+        Connection first = dataSource.getConnection();
+
+        // Then - limite atingido até o close
+        assertThat(dataSource.getActiveConnections()).isEqualTo(1);
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        first.close();
+        verify(connection, times(2)).close();
+        assertThat(dataSource.getActiveConnections()).isZero();
+
+        try (Connection second = dataSource.getConnection()) {
+            assertThat(second).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve devolver a permissão quando o pool falha ao entregar a conexão")
+    void deveDevolverPermissaoQuandoPoolFalha() throws SQLException {
+        // Given
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool esgotado"));
+
+        // When/Then
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool esgotado");
+        assertThat(dataSource.getActiveConnections()).isZero();
+    }
+}
@@ -0,0 +1,112 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de integração do expurgo de eventos excluídos (PostgreSQL).
+ * Verifica que apenas eventos excluídos além da retenção são removidos,
+ * em lotes, com cópia no arquivo quando o arquivamento está ativo.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("DeletedEventPurger - Testes de Integração")
+class DeletedEventPurgerIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long expired1;
+    private Long expired2;
+    private Long expired3;
+    private Long recentlyDeleted;
+    private Long live;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("DELETE FROM events WHERE deleted = true");
+        expired1 = insertEvent(true, now.minusDays(40));
+        expired2 = insertEvent(true, now.minusDays(35));
+        expired3 = insertEvent(true, now.minusDays(31));
+        recentlyDeleted = insertEvent(true, now.minusDays(1));
+        live = insertEvent(false, now.minusDays(60));
+    }
+
+    @Test
+    @DisplayName("Deve expurgar em lotes apenas os eventos excluídos além da retenção, arquivando-os")
+    void deveExpurgarEmLotesEArquivar() {
+        // Given - lotes de 2 linhas
+        DeletedEventPurger purger = purger(true);
+
+        // When
+        DeletedEventPurger.PurgeResult result = purger.purge();
+
+        // Then
+        assertThat(result.rows()).isEqualTo(3);
+        assertThat(result.batches()).isEqualTo(2);
+        assertThat(existing(expired1, expired2, expired3, recentlyDeleted, live))
+                .containsExactlyInAnyOrder(recentlyDeleted, live);
+        assertThat(archived()).containsExactlyInAnyOrder(expired1, expired2, expired3);
+        assertThat(purger.getPending()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve apenas remover os eventos quando o arquivamento está desativado")
+    void deveRemoverSemArquivar() {
+        // Given
+        DeletedEventPurger purger = purger(false);
+
+        // When
+        DeletedEventPurger.PurgeResult result = purger.purge();
+
+        // Then
+        assertThat(result.rows()).isEqualTo(3);
+        assertThat(existing(expired1, expired2, expired3)).isEmpty();
+        assertThat(archived()).isEmpty();
+    }
+
+    private DeletedEventPurger purger(boolean archive) {
+        return new DeletedEventPurger(jdbcTemplate, transactionManager, new SimpleMeterRegistry(),
+                true, Duration.ofDays(30), archive, 2, Duration.ZERO, Duration.ofMinutes(1));
+    }
+
+    private Long insertEvent(boolean deleted, LocalDateTime updatedAt) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO events (title, event_at, location, deleted, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?) RETURNING id",
+                Long.class, "Evento expurgo", Timestamp.valueOf(LocalDateTime.now().plusDays(10)), "Local",
+                deleted, Timestamp.valueOf(updatedAt.minusDays(1)), Timestamp.valueOf(updatedAt));
+    }
+
+    private List<Long> existing(Long... ids) {
+        String placeholders = String.join(", ", Collections.nCopies(ids.length, "?"));
+        return jdbcTemplate.queryForList("SELECT id FROM events WHERE id IN (" + placeholders + ")",
+                Long.class, (Object[]) ids);
+    }
+
+    private List<Long> archived() {
+        return jdbcTemplate.queryForList("SELECT id FROM events_archive.deleted_events WHERE id IN (?, ?, ?)",
+                Long.class, expired1, expired2, expired3);
+    }
+}
@@ -0,0 +1,123 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de integração do particionamento mensal de events (PostgreSQL).
+ * Verifica via EXPLAIN que consultas por período leem apenas as partições
+ * do intervalo, e a criação e o arquivamento de partições pela manutenção.
+ *
+ * O DDL do PostgreSQL é transacional: as partições criadas ou arquivadas
+ * aqui são desfeitas no rollback de cada teste.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Particionamento de events - Testes de Integração")
+class EventPartitionIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventPartitionMaintenance partitionMaintenance;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("ANALYZE events");
+    }
+
+    @Test
+    @DisplayName("Consulta por período deve ler apenas a partição do mês")
+    void consultaPorPeriodoDeveLerApenasParticaoDoMes() {
+        String plan = explain("SELECT * FROM events WHERE deleted = false "
+                + "AND event_at >= '2024-12-01 00:00:00' AND event_at < '2025-01-01 00:00:00' "
+                + "ORDER BY event_at ASC, id ASC LIMIT 20");
+
+        assertThat(plan)
+                .contains("events_p2024_12")
+                .doesNotContain("events_p2025_01")
+                .doesNotContain("events_default");
+    }
+
+    @Test
+    @DisplayName("Paginação por cursor deve descartar as partições anteriores ao cursor")
+    void paginacaoPorCursorDeveDescartarParticoesAnteriores() {
+        String plan = explain("SELECT * FROM events WHERE deleted = false "
+                + "AND event_at >= '2025-01-01 00:00:00' "
+                + "AND (event_at > '2025-01-01 00:00:00' OR id > 2) "
+                + "ORDER BY event_at ASC, id ASC LIMIT 21");
+
+        assertThat(plan)
+                .contains("events_p2025_01")
+                .doesNotContain("events_p2024_12");
+    }
+
+    @Test
+    @DisplayName("Deve criar a partição do mês movendo os eventos da partição DEFAULT")
+    void deveCriarParticaoMovendoEventosDaDefault() {
+        // Given - mês sem partição: o evento vai para a DEFAULT
+        Long id = insertEvent(LocalDateTime.of(2099, 3, 10, 19, 0));
+        assertThat(partitionOf(id)).isEqualTo("events_default");
+
+        // When
+        List<String> created = partitionMaintenance.createPartitions(YearMonth.of(2099, 3), 1);
+
+        // Then
+        assertThat(created).containsExactly("events_p2099_03");
+        assertThat(partitionOf(id)).isEqualTo("events_p2099_03");
+        // Os índices copiados com LIKE são anexados aos da tabela events, sem duplicatas
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_indexes WHERE tablename = 'events_p2099_03'", Long.class))
+                .isEqualTo(4);
+        assertThat(partitionMaintenance.createPartitions(YearMonth.of(2099, 3), 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve arquivar as partições anteriores ao limite no schema events_archive")
+    void deveArquivarParticoesAntigas() {
+        // Given
+        Long id = insertEvent(LocalDateTime.of(2000, 1, 15, 10, 0));
+        partitionMaintenance.createPartitions(YearMonth.of(2000, 1), 1);
+
+        // When
+        List<String> archived = partitionMaintenance.archivePartitionsBefore(YearMonth.of(2000, 2));
+
+        // Then
+        assertThat(archived).containsExactly("events_p2000_01");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM events WHERE id = ?", Long.class, id))
+                .isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM events_archive.events_p2000_01 WHERE id = ?", Long.class, id))
+                .isEqualTo(1);
+    }
+
+    private Long insertEvent(LocalDateTime eventAt) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO events (title, event_at, location) VALUES (?, ?, ?) RETURNING id",
+                Long.class, "Evento particionado", Timestamp.valueOf(eventAt), "Local");
+    }
+
+    private String partitionOf(Long id) {
+        return jdbcTemplate.queryForObject(
+                "SELECT CAST(CAST(tableoid AS regclass) AS text) FROM events WHERE id = ?", String.class, id);
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
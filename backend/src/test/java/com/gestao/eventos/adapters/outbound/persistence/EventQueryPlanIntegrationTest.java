@@ -0,0 +1,93 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes de regressão de plano de execução (PostgreSQL).
+ * Garante via EXPLAIN que as consultas de listagem, busca por ID e período
+ * usam os índices da tabela events, impedindo que uma alteração futura
+ * volte a gerar sequential scans.
+ *
+ * As consultas espelham o SQL gerado pelo SpringDataEventRepository.
+ * Como a base de teste é pequena, o seq scan é desabilitado na transação:
+ * se ainda assim o plano usar Seq Scan, nenhum índice atende a consulta.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Planos de consulta - Testes de Integração")
+class EventQueryPlanIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("ANALYZE events");
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+    }
+
+    @Test
+    @DisplayName("Listagem padrão ordenada por eventAt, id deve usar índice")
+    void listagemDeveUsarIndice() {
+        assertUsesIndex("SELECT * FROM events WHERE deleted = false "
+                + "ORDER BY event_at ASC, id ASC LIMIT 20 OFFSET 40");
+    }
+
+    @Test
+    @DisplayName("Listagem ordenada por createdAt deve usar índice")
+    void listagemPorCriacaoDeveUsarIndice() {
+        assertUsesIndex("SELECT * FROM events WHERE deleted = false "
+                + "ORDER BY created_at ASC, id ASC LIMIT 20");
+    }
+
+    @Test
+    @DisplayName("Contagem de eventos não deletados deve usar índice")
+    void contagemDeveUsarIndice() {
+        assertUsesIndex("SELECT count(*) FROM events WHERE deleted = false");
+    }
+
+    @Test
+    @DisplayName("Paginação por cursor deve usar índice")
+    void paginacaoPorCursorDeveUsarIndice() {
+        assertUsesIndex("SELECT * FROM events WHERE deleted = false "
+                + "AND event_at >= '2024-12-20 14:00:00' "
+                + "AND (event_at > '2024-12-20 14:00:00' OR id > 2) "
+                + "ORDER BY event_at ASC, id ASC LIMIT 21");
+    }
+
+    @Test
+    @DisplayName("Busca por ID deve usar índice")
+    void buscaPorIdDeveUsarIndice() {
+        assertUsesIndex("SELECT * FROM events WHERE id = 1 AND deleted = false");
+    }
+
+    @Test
+    @DisplayName("Consulta por período deve usar índice")
+    void consultaPorPeriodoDeveUsarIndice() {
+        assertUsesIndex("SELECT * FROM events WHERE deleted = false "
+                + "AND event_at >= '2024-12-01 00:00:00' AND event_at < '2025-01-01 00:00:00' "
+                + "ORDER BY event_at ASC, id ASC LIMIT 20");
+    }
+
+    private void assertUsesIndex(String sql) {
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+        String planText = String.join("\n", plan);
+
+        assertThat(planText)
+                .as("Plano de execução de: %s", sql)
+                .doesNotContain("Seq Scan")
+                .containsPattern("Index Scan|Index Only Scan|Bitmap Index Scan");
+    }
+}
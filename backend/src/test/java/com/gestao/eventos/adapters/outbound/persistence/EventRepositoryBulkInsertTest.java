@@ -0,0 +1,58 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import com.gestao.eventos.domain.model.Event;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes do fallback de inserção em massa sem PostgreSQL (H2).
+ * O schema é gerado pelo Hibernate, pois as migrations são específicas do PostgreSQL.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({EventRepositoryImpl.class, PostgresCopyEventWriter.class})
+@DisplayName("EventRepositoryImpl - Inserção em massa (H2)")
+class EventRepositoryBulkInsertTest {
+
+    @Autowired
+    private EventRepositoryImpl eventRepository;
+
+    @Autowired
+    private PostgresCopyEventWriter copyEventWriter;
+
+    @Autowired
+    private SpringDataEventRepository springDataEventRepository;
+
+    @Test
+    @DisplayName("Deve usar o fallback com INSERTs em batch quando o COPY não está disponível")
+    void deveInserirPeloFallback() {
+        // Given
+        LocalDateTime futureDate = LocalDateTime.now().plusDays(1);
+        List<Event> events = List.of(
+                Event.create("Evento 1", null, futureDate, "Local 1"),
+                Event.create("Evento 2", "Descrição", futureDate.plusHours(1), "Local 2"),
+                Event.create("Evento 3", null, futureDate.plusHours(2), "Local 3")
+        );
+
+        // When
+        int inserted = eventRepository.bulkInsert(events);
+
+        // Then
+        assertThat(copyEventWriter.isSupported()).isFalse();
+        assertThat(inserted).isEqualTo(3);
+        assertThat(springDataEventRepository.findAll())
+                .extracting(EventEntity::getTitle)
+                .containsExactlyInAnyOrder("Evento 1", "Evento 2", "Evento 3");
+    }
+}
@@ -0,0 +1,38 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contrato do repositório reativo no perfil r2dbc (adaptador R2DBC).
+ */
+@SpringBootTest
+@ActiveProfiles({"test", "r2dbc"})
+@DisplayName("R2dbcEventRepository - Testes de Contrato")
+class R2dbcEventRepositoryIntegrationTest extends ReactiveEventRepositoryContract {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    @DisplayName("Deve usar o adaptador R2DBC no perfil r2dbc")
+    void deveUsarAdaptadorR2dbc() {
+        assertThat(reactiveEventRepository).isInstanceOf(R2dbcEventRepository.class);
+    }
+
+    @Test
+    @DisplayName("Deve manter o DataSource JDBC junto do ConnectionFactory no perfil r2dbc")
+    void deveManterDataSourceJdbc() {
+        assertThat(applicationContext.getBeansOfType(ConnectionFactory.class)).hasSize(1);
+        assertThat(applicationContext.getBeansOfType(DataSource.class)).hasSize(1);
+    }
+}
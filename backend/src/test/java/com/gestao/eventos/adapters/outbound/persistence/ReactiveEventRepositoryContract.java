@@ -0,0 +1,102 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.repository.ReactiveEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Contrato das implementações de ReactiveEventRepository.
+ * Cada adaptador (JPA via boundedElastic ou R2DBC) estende esta classe e deve
+ * produzir exatamente os mesmos resultados, com as mesmas conversões
+ * verificadas em RepositoryAdapterTest.
+ *
+ * Os dados são gravados via JDBC fora de transação de teste, pois o adaptador
+ * R2DBC usa conexões próprias.
+ */
+abstract class ReactiveEventRepositoryContract {
+
+    private static final String TITLE_PREFIX = "Contrato reativo ";
+
+    @Autowired
+    protected ReactiveEventRepository reactiveEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDateTime eventAt = LocalDateTime.of(2099, 1, 1, 10, 0);
+    private final LocalDateTime createdAt = LocalDateTime.of(2024, 6, 1, 8, 30, 15);
+
+    private Long activeId;
+    private Long deletedId;
+
+    @BeforeEach
+    void setUp() {
+        activeId = insert(TITLE_PREFIX + "ativo", "Workshop sobre Spring Boot e DDD", "Sala 101 - Campus Central", false);
+        deletedId = insert(TITLE_PREFIX + "deletado", null, "Local", true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM events WHERE title LIKE ?", TITLE_PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("Deve buscar evento por ID convertendo todos os campos")
+    void deveBuscarPorIdConvertendoCampos() {
+        // When
+        Event event = reactiveEventRepository.findById(activeId).block();
+
+        // Then
+        assertThat(event).isNotNull();
+        assertThat(event.getId()).isEqualTo(activeId);
+        assertThat(event.getTitle()).isEqualTo(TITLE_PREFIX + "ativo");
+        assertThat(event.getDescription()).isEqualTo("Workshop sobre Spring Boot e DDD");
+        assertThat(event.getEventAt()).isEqualTo(eventAt);
+        assertThat(event.getLocation()).isEqualTo("Sala 101 - Campus Central");
+        assertThat(event.isDeleted()).isFalse();
+        assertThat(event.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(event.getUpdatedAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    @DisplayName("Não deve retornar evento deletado")
+    void naoDeveRetornarEventoDeletado() {
+        assertThat(reactiveEventRepository.findById(deletedId).blockOptional()).isEmpty();
+        assertThat(reactiveEventRepository.findById(-1L).blockOptional()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve paginar e contar apenas eventos não deletados, ordenados por eventAt e id")
+    void devePaginarEContarNaoDeletados() {
+        // Given
+        long expectedCount = jdbcTemplate.queryForObject("SELECT count(*) FROM events WHERE deleted = false", Long.class);
+        List<Long> expectedIds = jdbcTemplate.queryForList(
+                "SELECT id FROM events WHERE deleted = false ORDER BY event_at, id LIMIT 5 OFFSET 0", Long.class);
+
+        // When
+        List<Event> page = reactiveEventRepository.findPage(0, 5).collectList().block();
+        Long count = reactiveEventRepository.count().block();
+
+        // Then
+        assertThat(page).extracting(Event::getId).containsExactlyElementsOf(expectedIds);
+        assertThat(page).noneMatch(Event::isDeleted);
+        assertThat(count).isEqualTo(expectedCount);
+    }
+
+    private Long insert(String title, String description, String location, boolean deleted) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO events (title, description, event_at, location, deleted, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?) RETURNING id",
+                Long.class, title, description, eventAt, location, deleted, createdAt, createdAt);
+    }
+}
@@ -0,0 +1,151 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ReplicaRoutingDataSource.
+ * Testa o roteamento por transação somente leitura, o rodízio entre réplicas
+ * e a retirada e o retorno de réplicas com falha.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource - Testes Unitários")
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource firstReplica;
+
+    @Mock
+    private DataSource secondReplica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ReplicaRoutingDataSource(primary, List.of(firstReplica, secondReplica));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaRoutingDataSource.pinToPrimary(false);
+    }
+
+    @Test
+    @DisplayName("Deve usar o primário fora de transação somente leitura")
+    void deveUsarPrimarioParaEscritas() throws SQLException {
+        // Given
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When/Then
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        verifyNoInteractions(firstReplica, secondReplica);
+    }
+
+    @Test
+    @DisplayName("Deve alternar entre as réplicas em transações somente leitura")
+    void deveAlternarEntreReplicas() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(firstReplica.getConnection()).thenReturn(replicaConnection);
+        when(secondReplica.getConnection()).thenReturn(replicaConnection);
+
+        // When
+        for (int i = 0; i < 4; i++) {
+            dataSource.getConnection();
+        }
+
+        // Then
+        verify(firstReplica, times(2)).getConnection();
+        verify(secondReplica, times(2)).getConnection();
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    @DisplayName("Deve retirar a réplica com falha do rodízio e usar o primário sem réplicas saudáveis")
+    void deveRetirarReplicaComFalha() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(firstReplica.getConnection()).thenThrow(new SQLTransientConnectionException("indisponível"));
+        when(secondReplica.getConnection())
+                .thenReturn(replicaConnection)
+                .thenThrow(new SQLTransientConnectionException("indisponível"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When/Then
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+        assertThat(dataSource.getHealthyReplicas()).isEqualTo(1);
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        assertThat(dataSource.getHealthyReplicas()).isZero();
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        verify(firstReplica, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Deve devolver a réplica ao rodízio quando a verificação passar")
+    void deveDevolverReplicaAoRodizio() throws SQLException {
+        // Given - primeira réplica retirada após falha
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(firstReplica.getConnection())
+                .thenThrow(new SQLTransientConnectionException("indisponível"))
+                .thenReturn(replicaConnection);
+        when(secondReplica.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(0.5, 30.0);
+        dataSource.getConnection();
+        assertThat(dataSource.getHealthyReplicas()).isEqualTo(1);
+
+        // When - primeira réplica em dia, segunda atrasada 30s
+        dataSource.checkReplicas(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(dataSource.getHealthyReplicas()).isEqualTo(1);
+        assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+        verify(firstReplica, times(3)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Deve usar o primário em leituras com a thread fixada (leitura das próprias escritas)")
+    void deveUsarPrimarioComThreadFixada() throws SQLException {
+        // Given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaRoutingDataSource.pinToPrimary(true);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        // When/Then
+        assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+        verifyNoInteractions(firstReplica, secondReplica);
+    }
+}
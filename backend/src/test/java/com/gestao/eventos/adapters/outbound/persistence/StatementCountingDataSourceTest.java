@@ -0,0 +1,94 @@
+package com.gestao.eventos.adapters.outbound.persistence;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para StatementCountingDataSource.
+ * Testa a contagem de execuções no escopo do SqlStatementCounter da thread.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StatementCountingDataSource - Testes Unitários")
+class StatementCountingDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private Statement statement;
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementCounter.stop();
+    }
+
+    @Test
+    @DisplayName("Deve contar cada execução de statement, com lote contando uma vez")
+    void deveContarExecucoes() throws SQLException {
+        // Given
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(connection.createStatement()).thenReturn(statement);
+        StatementCountingDataSource dataSource = new StatementCountingDataSource(targetDataSource);
+        SqlStatementCounter.Stats stats = SqlStatementCounter.start();
+
+        // When
+        try (Connection counted = dataSource.getConnection()) {
+            PreparedStatement select = counted.prepareStatement("SELECT 1");
+            select.setLong(1, 1L);
+            select.executeQuery();
+
+            PreparedStatement insert = counted.prepareStatement("INSERT INTO events VALUES (?)");
+            insert.addBatch();
+            insert.addBatch();
+            insert.executeBatch();
+
+            counted.createStatement().execute("ANALYZE events");
+        }
+
+        // Then
+        assertThat(SqlStatementCounter.stop()).isSameAs(stats);
+        assertThat(stats.getStatements()).isEqualTo(3);
+        verify(preparedStatement).executeQuery();
+        verify(preparedStatement).executeBatch();
+        verify(statement).execute("ANALYZE events");
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("Não deve contar execuções fora de um escopo")
+    void naoDeveContarForaDeEscopo() throws SQLException {
+        // Given
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        StatementCountingDataSource dataSource = new StatementCountingDataSource(targetDataSource);
+
+        // When
+        try (Connection counted = dataSource.getConnection()) {
+            counted.prepareStatement("SELECT 1").executeQuery();
+        }
+
+        // Then
+        assertThat(SqlStatementCounter.current()).isNull();
+        verify(preparedStatement).executeQuery();
+    }
+}
@@ -0,0 +1,93 @@
+package com.gestao.eventos.application.service;
+
+import com.gestao.eventos.application.CreateEventUseCase;
+import com.gestao.eventos.application.CreateEventsBatchUseCase;
+import com.gestao.eventos.application.dto.BatchCreateResponse;
+import com.gestao.eventos.application.dto.EventRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark de inserção: compara linhas/segundo do endpoint unitário
+ * (uma transação e um INSERT por evento) com a criação em lote
+ * (INSERTs agrupados em batches JDBC com IDs de sequência pooled).
+ *
+ * Executado pelo failsafe (mvn verify). A quantidade de linhas pode ser
+ * ajustada com -Dbenchmark.rows=N.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Benchmark - Criação unitária vs. em lote")
+class BatchCreateBenchmarkIT {
+
+    private static final String TITLE_PREFIX = "Benchmark lote ";
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 2000);
+
+    @Autowired
+    private CreateEventUseCase createEventUseCase;
+
+    @Autowired
+    private CreateEventsBatchUseCase createEventsBatchUseCase;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM events WHERE title LIKE ?", TITLE_PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("Criação em lote deve ter maior vazão que a criação unitária")
+    void loteDeveTerMaiorVazao() {
+        List<EventRequest> requests = requests(ROWS);
+
+        // Aquecimento (JIT, pool de conexões, cache de statements)
+        requests(100).forEach(createEventUseCase::create);
+        createEventsBatchUseCase.createAll(requests(100));
+
+        long singleStart = System.nanoTime();
+        requests.forEach(createEventUseCase::create);
+        double singleRowsPerSecond = rowsPerSecond(ROWS, System.nanoTime() - singleStart);
+
+        long batchStart = System.nanoTime();
+        int created = 0;
+        for (int from = 0; from < requests.size(); from += CreateEventsBatchService.MAX_BATCH_SIZE) {
+            int to = Math.min(from + CreateEventsBatchService.MAX_BATCH_SIZE, requests.size());
+            BatchCreateResponse response = createEventsBatchUseCase.createAll(requests.subList(from, to));
+            created += response.created().size();
+        }
+        double batchRowsPerSecond = rowsPerSecond(ROWS, System.nanoTime() - batchStart);
+
+        System.out.printf("[benchmark] %d linhas | unitário: %.0f linhas/s | lote: %.0f linhas/s | ganho: %.1fx%n",
+                ROWS, singleRowsPerSecond, batchRowsPerSecond, batchRowsPerSecond / singleRowsPerSecond);
+
+        assertThat(created).isEqualTo(ROWS);
+        assertThat(batchRowsPerSecond).isGreaterThan(singleRowsPerSecond);
+    }
+
+    private static List<EventRequest> requests(int count) {
+        LocalDateTime eventAt = LocalDateTime.now().plusDays(30);
+        List<EventRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(new EventRequest(TITLE_PREFIX + i, "Descrição " + i, eventAt.plusMinutes(i), "Local " + i));
+        }
+        return requests;
+    }
+
+    private static double rowsPerSecond(int rows, long elapsedNanos) {
+        return rows / (elapsedNanos / 1_000_000_000.0);
+    }
+}
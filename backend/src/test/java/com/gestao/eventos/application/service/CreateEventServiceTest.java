@@ -1,5 +1,6 @@
 package com.gestao.eventos.application.service;
 
+import com.gestao.eventos.application.dto.EventChange;
 import com.gestao.eventos.application.dto.EventRequest;
 import com.gestao.eventos.application.dto.EventResponse;
 import com.gestao.eventos.domain.model.Event;
@@ -11,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 
@@ -29,6 +31,9 @@ class CreateEventServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CreateEventService createEventService;
 
@@ -78,6 +83,9 @@ class CreateEventServiceTest {
         // Verifica que repository.save foi chamado exatamente uma vez
         verify(eventRepository, times(1)).save(any(Event.class));
         verifyNoMoreInteractions(eventRepository);
+
+        // Verifica que a alteração foi publicada para o stream de eventos
+        verify(eventPublisher).publishEvent(EventChange.created(response));
     }
 
     @Test
@@ -0,0 +1,111 @@
+package com.gestao.eventos.application.service;
+
+import com.gestao.eventos.application.dto.BatchCreateResponse;
+import com.gestao.eventos.application.dto.EventRequest;
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.repository.EventRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para CreateEventsBatchService.
+ * Testa a validação por item e a persistência em lote.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CreateEventsBatchService - Testes Unitários")
+class CreateEventsBatchServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private CreateEventsBatchService createEventsBatchService;
+
+    @BeforeEach
+    void setUp() {
+        createEventsBatchService = new CreateEventsBatchService(
+                eventRepository,
+                Validation.buildDefaultValidatorFactory().getValidator()
+        );
+    }
+
+    @Test
+    @DisplayName("Deve salvar itens válidos em uma única chamada e reportar erros por item")
+    @SuppressWarnings("unchecked")
+    void deveSalvarValidosEReportarErros() {
+        // Given
+        LocalDateTime futureDate = LocalDateTime.now().plusDays(1);
+        List<EventRequest> requests = List.of(
+                new EventRequest("Evento válido", null, futureDate, "Local"),
+                new EventRequest("", null, futureDate, "Local"),
+                new EventRequest("Outro evento", null, futureDate, "A".repeat(201))
+        );
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Event> events = invocation.getArgument(0);
+            List<Event> saved = new ArrayList<>();
+            for (Event event : events) {
+                saved.add(Event.reconstruct(10L, event.getTitle(), event.getDescription(), event.getEventAt(),
+                        event.getLocation(), false, LocalDateTime.now(), LocalDateTime.now()));
+            }
+            return saved;
+        });
+
+        // When
+        BatchCreateResponse response = createEventsBatchService.createAll(requests);
+
+        // Then
+        assertThat(response.received()).isEqualTo(3);
+        assertThat(response.created()).hasSize(1);
+        assertThat(response.created().get(0).title()).isEqualTo("Evento válido");
+        assertThat(response.errors()).extracting(BatchCreateResponse.ItemError::index).containsExactly(1, 2);
+
+        ArgumentCaptor<List<Event>> captor = ArgumentCaptor.forClass(List.class);
+        verify(eventRepository, times(1)).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Não deve acessar o repositório quando nenhum item é válido")
+    void naoDeveSalvarQuandoNenhumItemValido() {
+        // Given
+        List<EventRequest> requests = List.of(
+                new EventRequest("Evento", null, LocalDateTime.now().minusDays(1), "Local")
+        );
+
+        // When
+        BatchCreateResponse response = createEventsBatchService.createAll(requests);
+
+        // Then
+        assertThat(response.created()).isEmpty();
+        assertThat(response.errors()).hasSize(1);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException quando o lote excede o tamanho máximo")
+    void deveLancarExcecaoQuandoLoteMuitoGrande() {
+        // Given
+        EventRequest request = new EventRequest("Evento", null, LocalDateTime.now().plusDays(1), "Local");
+        List<EventRequest> requests = Collections.nCopies(CreateEventsBatchService.MAX_BATCH_SIZE + 1, request);
+
+        // When/Then
+        assertThatThrownBy(() -> createEventsBatchService.createAll(requests))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("não pode ter mais de");
+    }
+}
@@ -0,0 +1,59 @@
+package com.gestao.eventos.application.service;
+
+import com.gestao.eventos.application.dto.EventChange;
+import com.gestao.eventos.domain.repository.EventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para DeleteEventService.
+ * Testa o soft delete e a publicação da alteração apenas quando o evento é excluído.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeleteEventService - Testes Unitários")
+class DeleteEventServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private DeleteEventService deleteEventService;
+
+    @Test
+    @DisplayName("Deve excluir o evento e publicar a alteração")
+    void deveExcluirEPublicarAlteracao() {
+        // Given
+        when(eventRepository.markAsDeleted(1L)).thenReturn(true);
+
+        // When
+        deleteEventService.delete(1L);
+
+        // Then
+        verify(eventRepository, times(1)).markAsDeleted(1L);
+        verify(eventPublisher).publishEvent(EventChange.deleted(1L));
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException sem publicar quando o evento não existe")
+    void deveLancarExcecaoSemPublicarQuandoEventoNaoExiste() {
+        // Given
+        when(eventRepository.markAsDeleted(99L)).thenReturn(false);
+
+        // When/Then
+        assertThatThrownBy(() -> deleteEventService.delete(99L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Evento não encontrado");
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -0,0 +1,180 @@
+package com.gestao.eventos.application.service;
+
+import com.gestao.eventos.application.IngestionQueueFullException;
+import com.gestao.eventos.application.dto.EventRequest;
+import com.gestao.eventos.application.dto.IngestionStatusResponse;
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.repository.EventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para EventIngestionService.
+ * Testa a validação antes do enfileiramento, o backpressure com a fila cheia
+ * e a drenagem da fila no encerramento.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventIngestionService - Testes Unitários")
+class EventIngestionServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicLong ids = new AtomicLong();
+    private EventIngestionService ingestionService;
+
+    @AfterEach
+    void tearDown() {
+        if (ingestionService != null) {
+            ingestionService.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve validar os dados no domínio antes de enfileirar")
+    void deveValidarAntesDeEnfileirar() {
+        // Given
+        ingestionService = service(10);
+        ingestionService.start();
+        EventRequest request = new EventRequest("A".repeat(101), null, LocalDateTime.now().plusDays(1), "Local");
+
+        // When/Then
+        assertThatThrownBy(() -> ingestionService.submit(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Title não pode ter mais de 100 caracteres");
+        assertThat(ingestionService.getQueueSize()).isZero();
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("Deve drenar a fila no encerramento gravando em lotes")
+    void deveDrenarFilaNoEncerramento() {
+        // Given
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+        ingestionService = service(10);
+        ingestionService.start();
+
+        // When
+        List<IngestionStatusResponse> accepted = List.of(
+                ingestionService.submit(request("Evento 1")),
+                ingestionService.submit(request("Evento 2")),
+                ingestionService.submit(request("Evento 3")));
+        ingestionService.stop();
+
+        // Then
+        assertThat(accepted).allMatch(status -> status.status() == IngestionStatusResponse.Status.QUEUED);
+        assertThat(accepted)
+                .map(status -> ingestionService.getStatus(status.trackingId()))
+                .allSatisfy(status -> {
+                    assertThat(status.status()).isEqualTo(IngestionStatusResponse.Status.CREATED);
+                    assertThat(status.eventId()).isNotNull();
+                    assertThat(status.completedAt()).isNotNull();
+                });
+        assertThat(ingestionService.getQueueSize()).isZero();
+        // Lotes de no máximo 2 eventos (batch-size)
+        verify(eventRepository, atLeast(2)).saveAll(argThat(events -> events.size() <= 2));
+    }
+
+    @Test
+    @DisplayName("Deve lançar IngestionQueueFullException com a fila cheia")
+    void deveRecusarComFilaCheia() throws InterruptedException {
+        // Given - gravação bloqueada enquanto a fila enche
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return withIds(invocation.getArgument(0));
+        });
+        ingestionService = service(1);
+        ingestionService.start();
+
+        ingestionService.submit(request("Em gravação"));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        ingestionService.submit(request("Na fila"));
+
+        // When/Then
+        assertThatThrownBy(() -> ingestionService.submit(request("Excedente")))
+                .isInstanceOf(IngestionQueueFullException.class);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Deve gravar individualmente quando o lote falha, marcando apenas o item com erro")
+    void deveGravarIndividualmenteQuandoLoteFalha() {
+        // Given
+        when(eventRepository.saveAll(anyList())).thenThrow(new IllegalStateException("Falha no lote"));
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> {
+            Event event = invocation.getArgument(0);
+            if (event.getTitle().equals("Inválido no banco")) {
+                throw new IllegalStateException("Violação de restrição");
+            }
+            return withIds(List.of(event)).get(0);
+        });
+        ingestionService = service(10);
+        ingestionService.start();
+        IngestionStatusResponse ok = ingestionService.submit(request("Válido"));
+        IngestionStatusResponse failed = ingestionService.submit(request("Inválido no banco"));
+
+        // When
+        ingestionService.stop();
+
+        // Then
+        assertThat(ingestionService.getStatus(ok.trackingId()).status())
+                .isEqualTo(IngestionStatusResponse.Status.CREATED);
+        IngestionStatusResponse failedStatus = ingestionService.getStatus(failed.trackingId());
+        assertThat(failedStatus.status()).isEqualTo(IngestionStatusResponse.Status.FAILED);
+        assertThat(failedStatus.error()).isEqualTo("Violação de restrição");
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException para ID de acompanhamento desconhecido")
+    void deveLancarExcecaoParaIdDesconhecido() {
+        // Given
+        ingestionService = service(10);
+
+        // When/Then
+        assertThatThrownBy(() -> ingestionService.getStatus("desconhecido"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Ingestão não encontrada");
+    }
+
+    private EventIngestionService service(int queueCapacity) {
+        return new EventIngestionService(eventRepository, transactionManager, new SimpleMeterRegistry(),
+                queueCapacity, 2, Duration.ofMillis(10), Duration.ofSeconds(5), Duration.ofMinutes(1));
+    }
+
+    private static EventRequest request(String title) {
+        return new EventRequest(title, null, LocalDateTime.now().plusDays(1), "Local");
+    }
+
+    private List<Event> withIds(List<Event> events) {
+        return events.stream()
+                .map(event -> Event.reconstruct(ids.incrementAndGet(), event.getTitle(), event.getDescription(),
+                        event.getEventAt(), event.getLocation(), false, event.getCreatedAt(), event.getUpdatedAt()))
+                .toList();
+    }
+}
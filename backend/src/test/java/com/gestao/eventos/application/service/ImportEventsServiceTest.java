@@ -0,0 +1,104 @@
+package com.gestao.eventos.application.service;
+
+import com.gestao.eventos.application.dto.EventRequest;
+import com.gestao.eventos.application.dto.ImportReport;
+import com.gestao.eventos.application.dto.ImportRow;
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.repository.EventRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes unitários para ImportEventsService.
+ * Testa a validação por linha, a inserção em blocos e o relatório de rejeições.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportEventsService - Testes Unitários")
+class ImportEventsServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImportEventsService importEventsService;
+
+    private final List<Integer> insertedChunkSizes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        importEventsService = new ImportEventsService(
+                eventRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                transactionManager
+        );
+    }
+
+    @Test
+    @DisplayName("Deve importar linhas válidas em blocos e rejeitar as inválidas com o número da linha")
+    void deveImportarEmBlocosERejeitarInvalidas() {
+        // Given - um bloco completo + 1 linha válida, e 3 linhas inválidas
+        stubBulkInsert();
+        LocalDateTime futureDate = LocalDateTime.now().plusDays(1);
+        List<ImportRow> rows = new ArrayList<>();
+        LongStream.rangeClosed(1, ImportEventsService.CHUNK_SIZE + 1)
+                .forEach(line -> rows.add(ImportRow.of(line, new EventRequest("Evento " + line, null, futureDate, "Local"))));
+        rows.add(ImportRow.of(9001, new EventRequest("", null, futureDate, "Local")));
+        rows.add(ImportRow.of(9002, new EventRequest("Evento", null, LocalDateTime.now().minusDays(1), "Local")));
+        rows.add(ImportRow.unreadable(9003, "Cannot deserialize value of type `java.time.LocalDateTime`"));
+
+        // When
+        ImportReport report = importEventsService.importEvents(rows.iterator());
+
+        // Then
+        assertThat(report.rowsRead()).isEqualTo(ImportEventsService.CHUNK_SIZE + 4);
+        assertThat(report.imported()).isEqualTo(ImportEventsService.CHUNK_SIZE + 1);
+        assertThat(report.rejected()).isEqualTo(3);
+        assertThat(report.rejectedRows()).extracting(ImportReport.RejectedRow::line).containsExactly(9001L, 9002L, 9003L);
+        assertThat(report.rejectedRowsTruncated()).isFalse();
+        assertThat(insertedChunkSizes).containsExactly(ImportEventsService.CHUNK_SIZE, 1);
+    }
+
+    @Test
+    @DisplayName("Deve limitar a quantidade de linhas rejeitadas no relatório")
+    void deveLimitarLinhasRejeitadasNoRelatorio() {
+        // Given
+        List<ImportRow> rows = new ArrayList<>();
+        LongStream.rangeClosed(1, ImportEventsService.MAX_REPORTED_REJECTIONS + 10)
+                .forEach(line -> rows.add(ImportRow.unreadable(line, "Linha inválida")));
+
+        // When
+        ImportReport report = importEventsService.importEvents(rows.iterator());
+
+        // Then
+        assertThat(report.imported()).isZero();
+        assertThat(report.rejected()).isEqualTo(ImportEventsService.MAX_REPORTED_REJECTIONS + 10);
+        assertThat(report.rejectedRows()).hasSize(ImportEventsService.MAX_REPORTED_REJECTIONS);
+        assertThat(report.rejectedRowsTruncated()).isTrue();
+    }
+
+    private void stubBulkInsert() {
+        // Registra o tamanho no momento da chamada (o serviço reutiliza a lista do bloco)
+        when(eventRepository.bulkInsert(anyList())).thenAnswer(invocation -> {
+            List<Event> chunk = invocation.getArgument(0);
+            insertedChunkSizes.add(chunk.size());
+            return chunk.size();
+        });
+    }
+}
@@ -0,0 +1,229 @@
+package com.gestao.eventos.application.service;
+
+import com.gestao.eventos.application.dto.CursorPage;
+import com.gestao.eventos.application.dto.EventCursor;
+import com.gestao.eventos.application.dto.EventResponse;
+import com.gestao.eventos.application.dto.SliceResponse;
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.model.EventView;
+import com.gestao.eventos.domain.repository.EventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para ListEventsService.
+ * Testa a listagem por projeção, o filtro por período, a listagem sem contagem (Slice) e a paginação por cursor (keyset).
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListEventsService - Testes Unitários")
+class ListEventsServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private ListEventsService listEventsService;
+
+    @Test
+    @DisplayName("Deve listar Slice sem consultar contagem quando estimativa não é solicitada")
+    void deveListarSliceSemContagem() {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 1);
+        Event event = evento(1L, LocalDateTime.now().plusDays(1));
+        when(eventRepository.findAllSlice(pageable)).thenReturn(new SliceImpl<>(List.of(event), pageable, true));
+
+        // When
+        SliceResponse<EventResponse> slice = listEventsService.listSlice(pageable, false);
+
+        // Then
+        assertThat(slice.content()).extracting(EventResponse::id).containsExactly(1L);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(slice.totalEstimate()).isNull();
+        verify(eventRepository, never()).estimateCount();
+    }
+
+    @Test
+    @DisplayName("Deve incluir total aproximado quando solicitado")
+    void deveIncluirTotalAproximado() {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(eventRepository.findAllSlice(pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+        when(eventRepository.estimateCount()).thenReturn(Optional.of(25L));
+
+        // When
+        SliceResponse<EventResponse> slice = listEventsService.listSlice(pageable, true);
+
+        // Then
+        assertThat(slice.totalEstimate()).isEqualTo(25L);
+        assertThat(slice.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve retornar primeira página com cursor quando existem mais eventos")
+    void deveRetornarPrimeiraPaginaComCursor() {
+        // Given - repositório retorna size + 1 eventos
+        LocalDateTime baseDate = LocalDateTime.now().plusDays(1);
+        List<Event> events = List.of(
+                evento(1L, baseDate),
+                evento(2L, baseDate.plusHours(1)),
+                evento(3L, baseDate.plusHours(2))
+        );
+        when(eventRepository.findNextPage(isNull(), isNull(), eq(3))).thenReturn(events);
+
+        // When
+        CursorPage<EventResponse> page = listEventsService.listAfter(null, 2);
+
+        // Then
+        assertThat(page.content()).extracting(EventResponse::id).containsExactly(1L, 2L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(EventCursor.decode(page.nextCursor()))
+                .isEqualTo(new EventCursor(baseDate.plusHours(1), 2L));
+    }
+
+    @Test
+    @DisplayName("Deve usar o cursor recebido e encerrar a paginação na última página")
+    void deveUsarCursorRecebido() {
+        // Given
+        LocalDateTime cursorDate = LocalDateTime.now().plusDays(1);
+        String after = new EventCursor(cursorDate, 2L).encode();
+        when(eventRepository.findNextPage(cursorDate, 2L, 3))
+                .thenReturn(List.of(evento(3L, cursorDate.plusHours(1))));
+
+        // When
+        CursorPage<EventResponse> page = listEventsService.listAfter(after, 2);
+
+        // Then
+        assertThat(page.content()).extracting(EventResponse::id).containsExactly(3L);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException quando o cursor é inválido")
+    void deveLancarExcecaoQuandoCursorInvalido() {
+        // When/Then
+        assertThatThrownBy(() -> listEventsService.listAfter("cursor-invalido", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(eventRepository, never()).findNextPage(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve listar pela projeção do modelo de leitura quando não há filtros")
+    void deveListarPelaProjecao() {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("eventAt", "id"));
+        EventView view = new EventView(1L, "Evento 1", null, LocalDateTime.now().plusDays(1), "Local", LocalDateTime.now());
+        when(eventRepository.findAllViews(pageable)).thenReturn(new PageImpl<>(List.of(view), pageable, 1));
+
+        // When
+        Page<EventResponse> page = listEventsService.list(null, null, false, pageable);
+
+        // Then
+        assertThat(page.getContent()).extracting(EventResponse::title).containsExactly("Evento 1");
+        verify(eventRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Deve selecionar apenas os campos informados, sempre incluindo o id")
+    void deveSelecionarCamposInformados() {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(eventRepository.findAllFields(List.of("id", "title", "eventAt"), pageable)).thenReturn(Page.empty());
+
+        // When
+        listEventsService.listFields(List.of("title", " eventAt", "id"), pageable);
+
+        // Then
+        verify(eventRepository).findAllFields(List.of("id", "title", "eventAt"), pageable);
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException quando um campo é desconhecido")
+    void deveLancarExcecaoQuandoCampoDesconhecido() {
+        // When/Then
+        assertThatThrownBy(() -> listEventsService.listFields(List.of("title", "deleted"), PageRequest.of(0, 10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Campo inválido: deleted");
+
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("Deve filtrar por período quando from/to são informados")
+    void deveFiltrarPorPeriodo() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2030, 12, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2031, 1, 1, 0, 0);
+        PageRequest pageable = PageRequest.of(0, 10, Sort.by("eventAt", "id"));
+        when(eventRepository.findAllBetween(from, to, pageable))
+                .thenReturn(new PageImpl<>(List.of(evento(1L, from.plusDays(3))), pageable, 1));
+
+        // When
+        Page<EventResponse> page = listEventsService.list(from, to, false, pageable);
+
+        // Then
+        assertThat(page.getContent()).extracting(EventResponse::id).containsExactly(1L);
+        verify(eventRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Deve listar próximos eventos a partir de agora ordenados por data")
+    void deveListarProximosEventos() {
+        // Given
+        PageRequest pageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
+        LocalDateTime before = LocalDateTime.now();
+        when(eventRepository.findAllBetween(any(LocalDateTime.class), isNull(), any(Pageable.class)))
+                .thenReturn(Page.empty());
+
+        // When
+        listEventsService.list(null, null, true, pageable);
+
+        // Then
+        ArgumentCaptor<LocalDateTime> fromCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(eventRepository).findAllBetween(fromCaptor.capture(), isNull(), pageableCaptor.capture());
+        assertThat(fromCaptor.getValue()).isAfterOrEqualTo(before);
+        assertThat(pageableCaptor.getValue().getSort()).isEqualTo(Sort.by("eventAt", "id"));
+        assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException quando from não é anterior a to")
+    void deveLancarExcecaoQuandoPeriodoInvalido() {
+        // Given
+        LocalDateTime date = LocalDateTime.now().plusDays(1);
+
+        // When/Then
+        assertThatThrownBy(() -> listEventsService.list(date, date, false, PageRequest.of(0, 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(eventRepository);
+    }
+
+    private Event evento(Long id, LocalDateTime eventAt) {
+        return Event.reconstruct(id, "Evento " + id, null, eventAt, "Local",
+                false, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,136 @@
+package com.gestao.eventos.application.service;
+
+import com.gestao.eventos.application.CreateEventsBatchUseCase;
+import com.gestao.eventos.application.dto.EventRequest;
+import com.gestao.eventos.application.dto.EventResponse;
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.model.EventView;
+import com.gestao.eventos.domain.repository.EventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Benchmark da listagem paginada: compara o caminho por entidade
+ * (EventEntity gerenciada -> Event -> EventResponse) com a projeção direta
+ * no modelo de leitura (EventView -> EventResponse).
+ *
+ * Mede bytes alocados por página na thread atual (ThreadMXBean) e páginas/segundo.
+ * Executado pelo failsafe (mvn verify). Ajustável com -Dbenchmark.pages=N.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Benchmark - Listagem por entidade vs. projeção")
+class ListProjectionBenchmarkIT {
+
+    private static final String TITLE_PREFIX = "Benchmark listagem ";
+
+    private static final int PAGES = Integer.getInteger("benchmark.pages", 500);
+
+    private static final Pageable PAGE = PageRequest.of(0, 100, Sort.by("eventAt", "id"));
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private CreateEventsBatchUseCase createEventsBatchUseCase;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        LocalDateTime eventAt = LocalDateTime.now().plusDays(30);
+        List<EventRequest> requests = new ArrayList<>();
+        for (int i = 0; i < PAGE.getPageSize(); i++) {
+            requests.add(new EventRequest(TITLE_PREFIX + i, "Descrição " + i, eventAt.plusMinutes(i), "Local " + i));
+        }
+        createEventsBatchUseCase.createAll(requests);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM events WHERE title LIKE ?", TITLE_PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("Projeção direta deve alocar menos memória por página que o caminho por entidade")
+    void projecaoDeveAlocarMenos() {
+        Runnable entityPath = () -> readOnlyTransaction.executeWithoutResult(status ->
+                eventRepository.findAll(PAGE).map(ListProjectionBenchmarkIT::fromEvent).getContent());
+        Runnable projectionPath = () -> readOnlyTransaction.executeWithoutResult(status ->
+                eventRepository.findAllViews(PAGE).map(ListProjectionBenchmarkIT::fromView).getContent());
+
+        // Aquecimento (JIT, pool de conexões, cache de statements e de planos de consulta)
+        for (int i = 0; i < 100; i++) {
+            entityPath.run();
+            projectionPath.run();
+        }
+
+        Measurement entity = measure(entityPath);
+        Measurement projection = measure(projectionPath);
+
+        System.out.printf("[benchmark] %d páginas de %d | entidade: %,d bytes/página, %.0f páginas/s "
+                        + "| projeção: %,d bytes/página, %.0f páginas/s | alocação: -%.0f%%%n",
+                PAGES, PAGE.getPageSize(),
+                entity.bytesPerPage(), entity.pagesPerSecond(),
+                projection.bytesPerPage(), projection.pagesPerSecond(),
+                100.0 * (entity.bytesPerPage() - projection.bytesPerPage()) / entity.bytesPerPage());
+
+        assertThat(projection.bytesPerPage()).isLessThan(entity.bytesPerPage());
+    }
+
+    private static Measurement measure(Runnable path) {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long bytesBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < PAGES; i++) {
+            path.run();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long bytes = threadBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        return new Measurement(bytes / PAGES, PAGES / (elapsedNanos / 1_000_000_000.0));
+    }
+
+    private static EventResponse fromEvent(Event event) {
+        return new EventResponse(event.getId(), event.getTitle(), event.getDescription(),
+                event.getEventAt(), event.getLocation(), event.getCreatedAt());
+    }
+
+    private static EventResponse fromView(EventView view) {
+        return new EventResponse(view.id(), view.title(), view.description(),
+                view.eventAt(), view.location(), view.createdAt());
+    }
+
+    private record Measurement(long bytesPerPage, double pagesPerSecond) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.gestao.eventos.application.service;
+
+import com.gestao.eventos.application.dto.EventResponse;
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.repository.EventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para SearchEventsService.
+ * Testa a validação do texto da busca e a delegação ao repositório.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchEventsService - Testes Unitários")
+class SearchEventsServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private SearchEventsService searchEventsService;
+
+    @Test
+    @DisplayName("Deve buscar com o texto normalizado, ignorando a ordenação recebida")
+    void deveBuscarComTextoNormalizado() {
+        // Given
+        PageRequest pageable = PageRequest.of(1, 5, Sort.by("title"));
+        Event event = Event.reconstruct(1L, "Workshop de Spring", null, LocalDateTime.now().plusDays(1), "Local",
+                false, LocalDateTime.now(), LocalDateTime.now());
+        when(eventRepository.search("workshop spring", 1, 5))
+                .thenReturn(new PageImpl<>(List.of(event), PageRequest.of(1, 5), 6));
+
+        // When
+        Page<EventResponse> page = searchEventsService.search("  workshop spring ", pageable);
+
+        // Then
+        assertThat(page.getContent()).extracting(EventResponse::title).containsExactly("Workshop de Spring");
+        assertThat(page.getTotalElements()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException quando o texto da busca é vazio")
+    void deveLancarExcecaoQuandoTextoVazio() {
+        // When/Then
+        assertThatThrownBy(() -> searchEventsService.search("   ", PageRequest.of(0, 10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Texto da busca é obrigatório");
+
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException quando o texto da busca é longo demais")
+    void deveLancarExcecaoQuandoTextoLongo() {
+        // When/Then
+        assertThatThrownBy(() -> searchEventsService.search("a".repeat(201), PageRequest.of(0, 10)))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(eventRepository);
+    }
+}
@@ -0,0 +1,90 @@
+package com.gestao.eventos.application.service;
+
+import com.gestao.eventos.application.dto.EventChange;
+import com.gestao.eventos.application.dto.EventRequest;
+import com.gestao.eventos.application.dto.EventResponse;
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.repository.EventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para UpdateEventService.
+ * Testa que a atualização é feita em uma única operação no repositório.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UpdateEventService - Testes Unitários")
+class UpdateEventServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private UpdateEventService updateEventService;
+
+    @Test
+    @DisplayName("Deve atualizar evento com uma única chamada ao repositório")
+    void deveAtualizarEventoComUmaChamada() {
+        // Given
+        LocalDateTime futureDate = LocalDateTime.now().plusDays(2);
+        EventRequest request = new EventRequest("Título atualizado", "Descrição", futureDate, "Local");
+        Event updated = Event.reconstruct(1L, "Título atualizado", "Descrição", futureDate, "Local",
+                false, LocalDateTime.now(), LocalDateTime.now());
+        when(eventRepository.update(eq(1L), any(Event.class))).thenReturn(Optional.of(updated));
+
+        // When
+        EventResponse response = updateEventService.update(1L, request);
+
+        // Then
+        assertThat(response.id()).isEqualTo(1L);
+        assertThat(response.title()).isEqualTo("Título atualizado");
+        verify(eventRepository, times(1)).update(eq(1L), any(Event.class));
+        verifyNoMoreInteractions(eventRepository);
+        verify(eventPublisher).publishEvent(EventChange.updated(response));
+    }
+
+    @Test
+    @DisplayName("Deve lançar IllegalArgumentException quando o evento não existe")
+    void deveLancarExcecaoQuandoEventoNaoExiste() {
+        // Given
+        EventRequest request = new EventRequest("Título", null, LocalDateTime.now().plusDays(1), "Local");
+        when(eventRepository.update(eq(99L), any(Event.class))).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> updateEventService.update(99L, request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Evento não encontrado");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve validar os dados no domínio antes de acessar o repositório")
+    void deveValidarAntesDeAtualizar() {
+        // Given
+        EventRequest request = new EventRequest("A".repeat(101), null, LocalDateTime.now().plusDays(1), "Local");
+
+        // When/Then
+        assertThatThrownBy(() -> updateEventService.update(1L, request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Title não pode ter mais de 100 caracteres");
+
+        verifyNoInteractions(eventRepository);
+    }
+}
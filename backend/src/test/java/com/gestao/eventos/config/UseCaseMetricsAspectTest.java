@@ -0,0 +1,69 @@
+package com.gestao.eventos.config;
+
+import com.gestao.eventos.application.GetEventUseCase;
+import com.gestao.eventos.application.dto.EventResponse;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Testes unitários para UseCaseMetricsAspect.
+ * Testa o registro do timer app.usecase com as tags de caso de uso e resultado.
+ */
+@DisplayName("UseCaseMetricsAspect - Testes Unitários")
+class UseCaseMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private GetEventUseCase getEventUseCase;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        GetEventUseCase target = id -> {
+            if (id < 0) {
+                throw new IllegalArgumentException("Evento não encontrado com ID: " + id);
+            }
+            return new EventResponse(id, "Evento", null, LocalDateTime.now().plusDays(1), "Local", LocalDateTime.now());
+        };
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addAspect(new UseCaseMetricsAspect(meterRegistry));
+        getEventUseCase = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Deve registrar o tempo do caso de uso com outcome SUCCESS")
+    void deveRegistrarSucesso() {
+        // When
+        getEventUseCase.getById(1L);
+        getEventUseCase.getById(2L);
+
+        // Then
+        Timer timer = meterRegistry.find(UseCaseMetricsAspect.TIMER_NAME)
+                .tags("usecase", "GetEventUseCase", "method", "getById", "endpoint", "none", "outcome", "SUCCESS")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve registrar o tempo do caso de uso com outcome ERROR e propagar a exceção")
+    void deveRegistrarErro() {
+        // When/Then
+        assertThatThrownBy(() -> getEventUseCase.getById(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        Timer timer = meterRegistry.find(UseCaseMetricsAspect.TIMER_NAME)
+                .tags("usecase", "GetEventUseCase", "outcome", "ERROR")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,239 @@
+package com.gestao.eventos.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestao.eventos.application.dto.EventRequest;
+import com.gestao.eventos.application.dto.EventResponse;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste de carga da API REST com orçamento de latência e vazão.
+ * Sobe a aplicação em porta aleatória e executa, com N clientes simultâneos,
+ * uma mistura de leituras (listagem, cursor, busca por ID) e escritas (criação)
+ * durante um tempo fixo. As latências são registradas em HdrHistogram.
+ *
+ * Falha (failsafe) quando o p99, a vazão ou a taxa de erros ultrapassam o orçamento.
+ * Parâmetros (-D): loadtest.concurrency, loadtest.warmupSeconds, loadtest.durationSeconds,
+ * loadtest.writeRatio, loadtest.budget.p99Millis, loadtest.budget.minThroughput,
+ * loadtest.budget.maxErrorRate e loadtest.profile.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles(resolver = LoadTestProfileResolver.class)
+@DisplayName("Teste de carga - API de eventos")
+class EventApiLoadIT {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 16);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmupSeconds", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.durationSeconds", 15);
+    private static final double WRITE_RATIO = Double.parseDouble(System.getProperty("loadtest.writeRatio", "0.1"));
+
+    private static final long BUDGET_P99_MILLIS = Long.getLong("loadtest.budget.p99Millis", 250);
+    private static final double BUDGET_MIN_THROUGHPUT = Double.parseDouble(System.getProperty("loadtest.budget.minThroughput", "200"));
+    private static final double BUDGET_MAX_ERROR_RATE = Double.parseDouble(System.getProperty("loadtest.budget.maxErrorRate", "0.01"));
+
+    private static final String TITLE_PREFIX = "Carga ";
+    private static final int SEED_EVENTS = 500;
+
+    private enum Operation { LIST, CURSOR, GET_BY_ID, CREATE }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final List<Long> eventIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        for (int i = 0; i < SEED_EVENTS; i++) {
+            HttpResponse<String> response = send(createRequest(i));
+            assertThat(response.statusCode()).isEqualTo(201);
+            eventIds.add(objectMapper.readValue(response.body(), EventResponse.class).id());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM events WHERE title LIKE ?", TITLE_PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("Deve atender à carga mista dentro do orçamento de p99, vazão e erros")
+    void deveAtenderCargaDentroDoOrcamento() throws Exception {
+        // Aquecimento (JIT, pool de conexões, caches), sem registro
+        runLoad(WARMUP_SECONDS, null);
+
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(3));
+        }
+        LoadResult result = runLoad(DURATION_SECONDS, histograms);
+
+        Histogram total = new Histogram(3);
+        histograms.values().forEach(total::add);
+        double throughput = result.requests() / (double) DURATION_SECONDS;
+        double errorRate = result.requests() == 0 ? 1.0 : result.errors() / (double) result.requests();
+        double p99Millis = total.getValueAtPercentile(99.0) / 1_000_000.0;
+
+        report(System.out, histograms, total, throughput, errorRate);
+        Path reportFile = Path.of("target", "loadtest", "event-api-load.txt");
+        Files.createDirectories(reportFile.getParent());
+        try (PrintStream out = new PrintStream(Files.newOutputStream(reportFile))) {
+            report(out, histograms, total, throughput, errorRate);
+            out.println();
+            total.outputPercentileDistribution(out, 1_000_000.0);
+        }
+
+        assertThat(errorRate).as("Taxa de erros").isLessThanOrEqualTo(BUDGET_MAX_ERROR_RATE);
+        assertThat(p99Millis).as("Latência p99 (ms)").isLessThanOrEqualTo(BUDGET_P99_MILLIS);
+        assertThat(throughput).as("Vazão (req/s)").isGreaterThanOrEqualTo(BUDGET_MIN_THROUGHPUT);
+    }
+
+    private LoadResult runLoad(int seconds, Map<Operation, Histogram> histograms) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        AtomicLong requests = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int worker = 0; worker < CONCURRENCY; worker++) {
+                workers.add(executor.submit(() -> {
+                    int sequence = 0;
+                    while (System.nanoTime() < deadline) {
+                        Operation operation = nextOperation();
+                        long start = System.nanoTime();
+                        boolean ok;
+                        try {
+                            int status = send(request(operation, sequence++)).statusCode();
+                            ok = status >= 200 && status < 300;
+                        } catch (IOException e) {
+                            ok = false;
+                        }
+                        long elapsed = System.nanoTime() - start;
+
+                        requests.incrementAndGet();
+                        if (!ok) {
+                            errors.incrementAndGet();
+                        }
+                        if (histograms != null) {
+                            histograms.get(operation).recordValue(elapsed);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new LoadResult(requests.get(), errors.get());
+    }
+
+    private Operation nextOperation() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (random.nextDouble() < WRITE_RATIO) {
+            return Operation.CREATE;
+        }
+        return switch (random.nextInt(3)) {
+            case 0 -> Operation.LIST;
+            case 1 -> Operation.CURSOR;
+            default -> Operation.GET_BY_ID;
+        };
+    }
+
+    private HttpRequest request(Operation operation, int sequence) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case LIST -> get("/api/events?page=" + random.nextInt(10) + "&size=20");
+            case CURSOR -> get("/api/events/cursor?size=20");
+            case GET_BY_ID -> get("/api/events/" + eventIds.get(random.nextInt(eventIds.size())));
+            case CREATE -> createRequest(sequence);
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest createRequest(int sequence) throws IOException {
+        EventRequest body = new EventRequest(TITLE_PREFIX + sequence, "Evento do teste de carga",
+                LocalDateTime.now().plusDays(1 + sequence % 365), "Local " + sequence % 20);
+        return HttpRequest.newBuilder(uri("/api/events"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException {
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static void report(PrintStream out, Map<Operation, Histogram> histograms, Histogram total,
+                               double throughput, double errorRate) {
+        out.printf("[loadtest] %d clientes, %ds, escrita %.0f%% | vazão: %.0f req/s (mín. %.0f) | erros: %.2f%% | p99: %.1f ms (máx. %d)%n",
+                CONCURRENCY, DURATION_SECONDS, WRITE_RATIO * 100, throughput, BUDGET_MIN_THROUGHPUT,
+                errorRate * 100, total.getValueAtPercentile(99.0) / 1_000_000.0, BUDGET_P99_MILLIS);
+        out.printf("[loadtest] %-10s %9s %9s %9s %9s %9s%n", "operação", "req", "p50 ms", "p95 ms", "p99 ms", "máx ms");
+        histograms.forEach((operation, histogram) -> out.printf("[loadtest] %-10s %9d %9.1f %9.1f %9.1f %9.1f%n",
+                operation, histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50.0) / 1_000_000.0,
+                histogram.getValueAtPercentile(95.0) / 1_000_000.0,
+                histogram.getValueAtPercentile(99.0) / 1_000_000.0,
+                histogram.getMaxValue() / 1_000_000.0));
+    }
+
+    private record LoadResult(long requests, long errors) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.gestao.eventos.loadtest;
+
+import org.springframework.test.context.ActiveProfilesResolver;
+
+/**
+ * Seleciona o perfil do teste de carga: loadtest (H2 embarcado, padrão)
+ * ou outro informado em -Dloadtest.profile (ex.: test, para PostgreSQL local).
+ */
+public class LoadTestProfileResolver implements ActiveProfilesResolver {
+
+    @Override
+    public String[] resolve(Class<?> testClass) {
+        return new String[] {System.getProperty("loadtest.profile", "loadtest")};
+    }
+}
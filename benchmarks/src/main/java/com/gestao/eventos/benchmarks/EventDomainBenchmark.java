@@ -0,0 +1,53 @@
+package com.gestao.eventos.benchmarks;
+
+import com.gestao.eventos.domain.model.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo das regras do domínio por requisição: validação e normalização em
+ * Event.create/Event.update (trims, limites de tamanho, LocalDateTime.now())
+ * e a reconstrução usada pelo repositório em cada linha lida.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventDomainBenchmark {
+
+    private Event existing;
+
+    @Setup
+    public void setUp() {
+        existing = EventFixtures.event(1L);
+    }
+
+    @Benchmark
+    public Event create() {
+        return Event.create(EventFixtures.TITLE, EventFixtures.DESCRIPTION, EventFixtures.EVENT_AT, EventFixtures.LOCATION);
+    }
+
+    @Benchmark
+    public Event update() {
+        existing.update(EventFixtures.TITLE, EventFixtures.DESCRIPTION, EventFixtures.EVENT_AT, EventFixtures.LOCATION);
+        return existing;
+    }
+
+    @Benchmark
+    public Event reconstruct() {
+        return Event.reconstruct(1L, EventFixtures.TITLE, EventFixtures.DESCRIPTION, EventFixtures.EVENT_AT,
+                EventFixtures.LOCATION, false, EventFixtures.CREATED_AT, EventFixtures.CREATED_AT);
+    }
+}
@@ -0,0 +1,70 @@
+package com.gestao.eventos.benchmarks;
+
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.model.EventView;
+import com.gestao.eventos.domain.repository.EventRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Dados dos benchmarks, com tamanhos realistas de título, descrição e local.
+ */
+final class EventFixtures {
+
+    static final LocalDateTime EVENT_AT = LocalDateTime.now().plusYears(1).withNano(0);
+    static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 6, 1, 8, 30, 15);
+
+    static final String TITLE = "  Workshop de Spring Boot e Arquitetura Hexagonal  ";
+    static final String DESCRIPTION = "Workshop prático sobre Spring Boot, DDD e portas e adaptadores. ".repeat(8);
+    static final String LOCATION = " Sala 101 - Campus Central ";
+
+    private EventFixtures() {
+    }
+
+    static Event event(long id) {
+        return Event.reconstruct(id, TITLE.trim() + " " + id, DESCRIPTION, EVENT_AT.plusMinutes(id),
+                LOCATION.trim(), false, CREATED_AT, CREATED_AT);
+    }
+
+    static EventView view(long id) {
+        return new EventView(id, TITLE.trim() + " " + id, DESCRIPTION, EVENT_AT.plusMinutes(id),
+                LOCATION.trim(), CREATED_AT);
+    }
+
+    static <T> Page<T> page(List<T> content) {
+        return new PageImpl<>(content, PageRequest.of(0, content.size()), 10_000);
+    }
+
+    static List<EventView> views(int size) {
+        List<EventView> views = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            views.add(view(i));
+        }
+        return views;
+    }
+
+    /**
+     * EventRepository em memória que devolve sempre os mesmos dados pré-construídos,
+     * para medir apenas o código dos serviços (sem banco de dados).
+     */
+    static EventRepository repository(Event event, Page<EventView> views) {
+        return (EventRepository) Proxy.newProxyInstance(
+                EventRepository.class.getClassLoader(),
+                new Class<?>[] {EventRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.of(event);
+                    case "findAllViews" -> views;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "EventFixtures.repository";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
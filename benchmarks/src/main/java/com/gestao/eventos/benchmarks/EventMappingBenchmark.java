@@ -0,0 +1,84 @@
+package com.gestao.eventos.benchmarks;
+
+import com.gestao.eventos.adapters.outbound.persistence.EventEntity;
+import com.gestao.eventos.adapters.outbound.persistence.EventEntityMapper;
+import com.gestao.eventos.application.dto.EventResponse;
+import com.gestao.eventos.application.service.GetEventService;
+import com.gestao.eventos.application.service.ListEventsService;
+import com.gestao.eventos.domain.model.Event;
+import com.gestao.eventos.domain.repository.EventRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo das conversões entre camadas: Event <-> EventEntity (adaptador JPA) e
+ * Event/EventView -> EventResponse (toResponse dos serviços), por item e por página.
+ * Os serviços usam um EventRepository em memória, sem banco e sem proxies do Spring.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EventMappingBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private Event event;
+    private EventEntity entity;
+    private Pageable pageable;
+    private GetEventService getEventService;
+    private ListEventsService listEventsService;
+
+    @Setup
+    public void setUp() {
+        event = EventFixtures.event(1L);
+        entity = EventEntityMapper.toNewEntity(event);
+        entity.setId(1L);
+        entity.setCreatedAt(EventFixtures.CREATED_AT);
+        entity.setUpdatedAt(EventFixtures.CREATED_AT);
+
+        pageable = PageRequest.of(0, pageSize);
+        EventRepository repository = EventFixtures.repository(
+                event,
+                EventFixtures.page(EventFixtures.views(pageSize)));
+        getEventService = new GetEventService(repository);
+        listEventsService = new ListEventsService(repository);
+    }
+
+    @Benchmark
+    public EventEntity toEntity() {
+        return EventEntityMapper.toNewEntity(event);
+    }
+
+    @Benchmark
+    public Event toDomain() {
+        return EventEntityMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public EventResponse getByIdToResponse() {
+        return getEventService.getById(1L);
+    }
+
+    @Benchmark
+    public Page<EventResponse> listPageToResponse() {
+        return listEventsService.list(pageable);
+    }
+}
@@ -0,0 +1,81 @@
+package com.gestao.eventos.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.gestao.eventos.adapters.inbound.rest.PageResponseJsonSerializer;
+import com.gestao.eventos.application.dto.EventResponse;
+import com.gestao.eventos.application.dto.PageResponse;
+import com.gestao.eventos.domain.model.EventView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da serialização JSON da resposta de GET /api/events, com o ObjectMapper
+ * configurado como no Spring Boot: PageImpl (formato anterior), PageResponse com o
+ * serializador padrão do record e PageResponse com PageResponseJsonSerializer (atual).
+ * O tamanho de cada formato em bytes é impresso no setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PageSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper streamingObjectMapper;
+    private Page<EventResponse> page;
+    private PageResponse<EventResponse> pageResponse;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        // modulesToInstall mantém os módulos padrão (ex.: JavaTimeModule), como no Spring Boot
+        streamingObjectMapper = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new SimpleModule().addSerializer(new PageResponseJsonSerializer()))
+                .build();
+        page = EventFixtures.page(EventFixtures.views(pageSize)).map(PageSerializationBenchmark::toResponse);
+        pageResponse = PageResponse.of(page);
+
+        System.out.printf("%nBytes (pageSize=%d): PageImpl=%d, PageResponse=%d%n", pageSize,
+                serializePageImpl().length, serializePageResponseStreaming().length);
+    }
+
+    @Benchmark
+    public byte[] serializePageImpl() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializePageResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pageResponse);
+    }
+
+    @Benchmark
+    public byte[] serializePageResponseStreaming() throws JsonProcessingException {
+        return streamingObjectMapper.writeValueAsBytes(pageResponse);
+    }
+
+    private static EventResponse toResponse(EventView view) {
+        return new EventResponse(view.id(), view.title(), view.description(),
+                view.eventAt(), view.location(), view.createdAt());
+    }
+}
@@ -0,0 +1,10 @@
+#!/bin/sh
+# Prepara o primário para a réplica de leitura (docker-compose.replica.yml).
+# Executado apenas na criação do volume do banco.
+set -e
+
+psql -v ON_ERROR_STOP=1 --username "$POSTGRES_USER" --dbname "$POSTGRES_DB" <<-EOSQL
+    CREATE ROLE replicator WITH REPLICATION LOGIN PASSWORD '${DB_REPLICATION_PASSWORD:-replicator}';
+EOSQL
+
+echo "host replication replicator all scram-sha-256" >> "$PGDATA/pg_hba.conf"
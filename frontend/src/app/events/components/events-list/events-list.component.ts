@@ -1,4 +1,4 @@
-import { Component, OnInit } from '@angular/core';
+import { Component, OnDestroy, OnInit } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { RouterModule } from '@angular/router';
 import { MatPaginatorModule, PageEvent } from '@angular/material/paginator';
@@ -7,12 +7,15 @@ import { MatButtonModule } from '@angular/material/button';
 import { MatProgressSpinnerModule } from '@angular/material/progress-spinner';
 import { MatSnackBar, MatSnackBarModule } from '@angular/material/snack-bar';
 import { MatIconModule } from '@angular/material/icon';
-import { EventsService } from '../../services/events.service';
-import { Event } from '../../models/event.model';
+import { Subscription } from 'rxjs';
+import { EventsListStateService } from '../../services/events-list-state.service';
+import { EventSummary } from '../../models/event.model';
 import { Page } from '../../models/page.model';
 
 /**
  * Componente para listagem de eventos com paginação.
+ * A página é atualizada pelas alterações em tempo real (EventsListStateService),
+ * sem recarregar a cada criação, edição ou exclusão.
  */
 @Component({
   selector: 'app-events-list',
@@ -52,18 +55,18 @@ import { Page } from '../../models/page.model';
       </div>
       
       <div *ngIf="!loading && !error && eventsPage">
-        <div *ngIf="eventsPage.empty" class="empty">
+        <div *ngIf="eventsPage.content.length === 0" class="empty">
           <p>Nenhum evento encontrado.</p>
           <a routerLink="/events/new" mat-raised-button color="primary">Criar Primeiro Evento</a>
         </div>
         
-        <div *ngIf="!eventsPage.empty" class="events-grid">
+        <div *ngIf="eventsPage.content.length > 0" class="events-grid">
           <mat-card *ngFor="let event of eventsPage.content" class="event-card">
             <mat-card-header>
               <mat-card-title>{{ event.title }}</mat-card-title>
             </mat-card-header>
             <mat-card-content>
-              <p *ngIf="event.description" class="description">{{ event.description }}</p>
+              <p *ngIf="event.descriptionExcerpt" class="description">{{ event.descriptionExcerpt }}</p>
               <div class="event-info">
                 <p><strong>Data:</strong> {{ formatDate(event.eventAt) }}</p>
                 <p><strong>Local:</strong> {{ event.location }}</p>
@@ -77,7 +80,7 @@ import { Page } from '../../models/page.model';
         </div>
         
         <mat-paginator
-          *ngIf="!eventsPage.empty"
+          *ngIf="eventsPage.content.length > 0"
           [length]="eventsPage.totalElements"
           [pageSize]="pageSize"
           [pageIndex]="currentPage"
@@ -186,29 +189,42 @@ import { Page } from '../../models/page.model';
     }
   `]
 })
-export class EventsListComponent implements OnInit {
-  eventsPage: Page<Event> | null = null;
+export class EventsListComponent implements OnInit, OnDestroy {
+  eventsPage: Page<EventSummary> | null = null;
   loading = false;
   error: string | null = null;
   currentPage = 0;
   pageSize = 10;
+  private pageSubscription: Subscription | null = null;
 
   constructor(
-    private eventsService: EventsService,
+    private eventsListState: EventsListStateService,
     private snackBar: MatSnackBar
   ) { }
 
   ngOnInit(): void {
-    this.loadEvents();
+    this.pageSubscription = this.eventsListState.page$.subscribe(page => {
+      if (page) {
+        this.eventsPage = page;
+        this.currentPage = page.page;
+        this.pageSize = page.size;
+      }
+    });
+    if (!this.eventsPage) {
+      this.loadEvents();
+    }
+  }
+
+  ngOnDestroy(): void {
+    this.pageSubscription?.unsubscribe();
   }
 
   loadEvents(): void {
     this.loading = true;
     this.error = null;
     
-    this.eventsService.list(this.currentPage, this.pageSize).subscribe({
-      next: (page) => {
-        this.eventsPage = page;
+    this.eventsListState.load(this.currentPage, this.pageSize).subscribe({
+      next: () => {
         this.loading = false;
       },
       error: (err) => {
@@ -11,6 +11,17 @@ export interface Event {
   createdAt?: string; // ISO 8601 date-time string
 }
 
+/**
+ * Resumo de evento usado na listagem (GET /api/events?view=summary).
+ */
+export interface EventSummary {
+  id: number;
+  title: string;
+  eventAt: string; // ISO 8601 date-time string
+  location: string;
+  descriptionExcerpt?: string; // até 150 caracteres da descrição
+}
+
 /**
  * DTO para criação/atualização de evento.
  */
@@ -21,3 +32,12 @@ export interface EventRequest {
   location: string;
 }
 
+
+/**
+ * Alteração de evento recebida pelo stream (GET /api/events/stream).
+ */
+export interface EventChange {
+  type: 'CREATED' | 'UPDATED' | 'DELETED';
+  eventId: number;
+  event?: Event; // ausente na exclusão
+}
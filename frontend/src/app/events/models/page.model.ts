@@ -1,31 +1,11 @@
 /**
  * Modelo de página paginada.
- * Representa uma resposta paginada da API.
+ * Representa uma resposta paginada da API (PageResponse).
  */
 export interface Page<T> {
   content: T[];
-  pageable: {
-    pageNumber: number;
-    pageSize: number;
-    offset: number;
-    paged: boolean;
-    unpaged: boolean;
-    sort: Sort;
-  };
+  page: number;
+  size: number;
   totalElements: number;
   totalPages: number;
-  last: boolean;
-  first: boolean;
-  numberOfElements: number;
-  size: number;
-  number: number;
-  sort: Sort;
-  empty: boolean;
-}
-
-export interface Sort {
-  sorted: boolean;
-  unsorted: boolean;
-  empty: boolean;
 }
-
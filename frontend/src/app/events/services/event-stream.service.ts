@@ -0,0 +1,78 @@
+import { Injectable, NgZone } from '@angular/core';
+import { Observable, share } from 'rxjs';
+import { EventChange } from '../models/event.model';
+
+/**
+ * Mensagem do stream: uma alteração ou um aviso de que as alterações perdidas
+ * não estão mais disponíveis e a listagem deve ser recarregada.
+ */
+export type StreamMessage =
+  | { kind: 'change'; change: EventChange }
+  | { kind: 'reset' };
+
+/**
+ * Serviço de alterações de eventos em tempo real (Server-Sent Events).
+ * Mantém uma única conexão com GET /api/events/stream, compartilhada entre os inscritos.
+ */
+@Injectable({
+  providedIn: 'root'
+})
+export class EventStreamService {
+
+  private readonly streamUrl = '/api/events/stream';
+  private readonly retryDelayMs = 5000;
+
+  /** Último ID recebido, usado para retomar o stream sem perder alterações. */
+  private lastEventId: string | null = null;
+
+  /**
+   * Alterações publicadas pelo backend após cada criação, atualização ou exclusão.
+   */
+  readonly messages$: Observable<StreamMessage> = new Observable<StreamMessage>(subscriber => {
+    let source: EventSource | null = null;
+    let retryTimer: ReturnType<typeof setTimeout> | null = null;
+
+    const open = () => {
+      const url = this.lastEventId
+        ? `${this.streamUrl}?lastEventId=${encodeURIComponent(this.lastEventId)}`
+        : this.streamUrl;
+      source = new EventSource(url);
+
+      const onChange = (message: MessageEvent<string>) => {
+        this.lastEventId = message.lastEventId;
+        const change = JSON.parse(message.data) as EventChange;
+        this.zone.run(() => subscriber.next({ kind: 'change', change }));
+      };
+      source.addEventListener('created', onChange);
+      source.addEventListener('updated', onChange);
+      source.addEventListener('deleted', onChange);
+      source.addEventListener('ready', (message: MessageEvent<string>) => {
+        this.lastEventId = message.lastEventId;
+      });
+      source.addEventListener('reset', (message: MessageEvent<string>) => {
+        this.lastEventId = message.lastEventId;
+        this.zone.run(() => subscriber.next({ kind: 'reset' }));
+      });
+
+      // O EventSource reconecta sozinho (com Last-Event-ID) em quedas de conexão;
+      // após uma resposta de erro (ex.: 503) ele desiste e a conexão é reaberta aqui
+      source.onerror = () => {
+        if (source?.readyState === EventSource.CLOSED) {
+          source.close();
+          retryTimer = setTimeout(open, this.retryDelayMs);
+        }
+      };
+    };
+
+    this.zone.runOutsideAngular(open);
+
+    return () => {
+      if (retryTimer) {
+        clearTimeout(retryTimer);
+      }
+      source?.close();
+    };
+  }).pipe(share());
+
+  constructor(private zone: NgZone) { }
+}
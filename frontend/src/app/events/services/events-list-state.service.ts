@@ -0,0 +1,126 @@
+import { Injectable } from '@angular/core';
+import { BehaviorSubject, Observable, Subscription, tap } from 'rxjs';
+import { Event, EventChange, EventSummary } from '../models/event.model';
+import { Page } from '../models/page.model';
+import { EventsService } from './events.service';
+import { EventStreamService } from './event-stream.service';
+
+/** Tamanho do trecho da descrição nos resumos (EventSummary.DESCRIPTION_EXCERPT_LENGTH no backend). */
+const DESCRIPTION_EXCERPT_LENGTH = 150;
+
+/**
+ * Estado da página exibida na listagem de eventos.
+ * A página é carregada uma vez e mantida atualizada pelas alterações do stream,
+ * inclusive enquanto o usuário está em outra tela: ao voltar para a listagem,
+ * ela é exibida sem nova requisição.
+ */
+@Injectable({
+  providedIn: 'root'
+})
+export class EventsListStateService {
+
+  private readonly pageSubject = new BehaviorSubject<Page<EventSummary> | null>(null);
+  private streamSubscription: Subscription | null = null;
+
+  /** Página atual, atualizada a cada alteração. */
+  readonly page$ = this.pageSubject.asObservable();
+
+  constructor(
+    private eventsService: EventsService,
+    private eventStream: EventStreamService
+  ) { }
+
+  /**
+   * Carrega uma página da API e passa a acompanhar as alterações.
+   */
+  load(page: number, size: number): Observable<Page<EventSummary>> {
+    this.connect();
+    return this.eventsService.listSummaries(page, size).pipe(
+      tap(result => this.pageSubject.next(result))
+    );
+  }
+
+  private reload(page: number, size: number): void {
+    this.load(page, size).subscribe({ error: () => this.pageSubject.next(null) });
+  }
+
+  private connect(): void {
+    if (this.streamSubscription) {
+      return;
+    }
+    this.streamSubscription = this.eventStream.messages$.subscribe(message => {
+      const current = this.pageSubject.value;
+      if (!current) {
+        return;
+      }
+      if (message.kind === 'reset') {
+        this.reload(current.page, current.size);
+        return;
+      }
+      const next = applyChange(current, message.change);
+      if (next.content.length === 0 && next.totalElements > 0) {
+        // Página esvaziada pelas exclusões: busca os eventos que passaram a ocupá-la
+        this.reload(Math.min(next.page, next.totalPages - 1), next.size);
+      } else {
+        this.pageSubject.next(next);
+      }
+    });
+  }
+}
+
+/**
+ * Aplica uma alteração à página exibida.
+ * Eventos criados ou alterados entram na página se a data estiver entre o primeiro
+ * e o último item (ordem por eventAt, id); os demais só afetam o total. As demais
+ * páginas não são deslocadas: isso acontece na próxima troca de página.
+ */
+export function applyChange(page: Page<EventSummary>, change: EventChange): Page<EventSummary> {
+  const remaining = page.content.filter(item => item.id !== change.eventId);
+  let totalElements = page.totalElements;
+  let content = remaining;
+
+  if (change.type === 'CREATED') {
+    totalElements += 1;
+  } else if (change.type === 'DELETED') {
+    totalElements = Math.max(0, totalElements - 1);
+  }
+
+  if (change.type !== 'DELETED' && change.event && belongsToPage(page, remaining, change.event)) {
+    content = [...remaining, toSummary(change.event)].sort(compareByEventAt);
+    if (content.length > page.size) {
+      content = content.slice(0, page.size);
+    }
+  }
+
+  return {
+    ...page,
+    content,
+    totalElements,
+    totalPages: Math.ceil(totalElements / page.size)
+  };
+}
+
+function belongsToPage(page: Page<EventSummary>, remaining: EventSummary[], event: Event): boolean {
+  const isLastPage = page.page >= page.totalPages - 1;
+  const candidate = toSummary(event);
+  if (remaining.length === 0) {
+    return isLastPage;
+  }
+  const afterFirst = page.page === 0 || compareByEventAt(candidate, remaining[0]) >= 0;
+  const beforeLast = isLastPage || compareByEventAt(candidate, remaining[remaining.length - 1]) <= 0;
+  return afterFirst && beforeLast;
+}
+
+function compareByEventAt(a: EventSummary, b: EventSummary): number {
+  return new Date(a.eventAt).getTime() - new Date(b.eventAt).getTime() || a.id - b.id;
+}
+
+function toSummary(event: Event): EventSummary {
+  return {
+    id: event.id!,
+    title: event.title,
+    eventAt: event.eventAt,
+    location: event.location,
+    descriptionExcerpt: event.description?.substring(0, DESCRIPTION_EXCERPT_LENGTH)
+  };
+}
@@ -2,7 +2,7 @@ import { Injectable } from '@angular/core';
 import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 import { Page } from '../models/page.model';
-import { Event } from '../models/event.model';
+import { Event, EventSummary } from '../models/event.model';
 
 /**
  * Serviço para comunicação com a API de eventos.
@@ -32,6 +32,39 @@ export class EventsService {
     return this.http.get<Page<Event>>(this.apiUrl, { params });
   }
 
+  /**
+   * Lista eventos no formato resumido (descrição truncada), usado nos cards da listagem.
+   * 
+   * @param page Número da página (começa em 0)
+   * @param size Tamanho da página
+   * @returns Observable com página de resumos de eventos
+   */
+  listSummaries(page: number = 0, size: number = 10): Observable<Page<EventSummary>> {
+    const params = new HttpParams()
+      .set('view', 'summary')
+      .set('page', page.toString())
+      .set('size', size.toString());
+
+    return this.http.get<Page<EventSummary>>(this.apiUrl, { params });
+  }
+
+  /**
+   * Busca eventos por texto (título, descrição e local), ordenados por relevância.
+   * 
+   * @param query Texto da busca
+   * @param page Número da página (começa em 0)
+   * @param size Tamanho da página
+   * @returns Observable com página de eventos encontrados
+   */
+  search(query: string, page: number = 0, size: number = 10): Observable<Page<Event>> {
+    const params = new HttpParams()
+      .set('q', query)
+      .set('page', page.toString())
+      .set('size', size.toString());
+
+    return this.http.get<Page<Event>>(`${this.apiUrl}/search`, { params });
+  }
+
   /**
    * Busca um evento por ID.
    * 